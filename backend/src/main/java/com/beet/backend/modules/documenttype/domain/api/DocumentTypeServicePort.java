@@ -2,7 +2,14 @@ package com.beet.backend.modules.documenttype.domain.api;
 
 import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
 import java.util.List;
+import java.util.Map;
 
 public interface DocumentTypeServicePort {
     List<DocumentTypeDomain> getDocumentTypesByCountry(String countryCode);
+
+    /** All document types keyed by country code; the map is immutable and shared. */
+    Map<String, List<DocumentTypeDomain>> getAllByCountry();
+
+    /** Reloads the in-memory snapshot after document_types or countries change. */
+    void reload();
 }
@@ -10,4 +10,5 @@ public class DocumentTypeDomain {
     private UUID id;
     private String name;
     private String description;
+    private String countryCode; // ISO 3166-1 alpha-2 of the issuing country
 }
@@ -4,5 +4,7 @@ import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
 import java.util.List;
 
 public interface DocumentTypePersistencePort {
-    List<DocumentTypeDomain> findByCountryCode(String countryCode);
+
+    /** Every document type with its country code, ordered by country then name. */
+    List<DocumentTypeDomain> findAll();
 }
@@ -5,21 +5,63 @@ import com.beet.backend.modules.documenttype.domain.exception.InvalidDocumentTyp
 import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
 import com.beet.backend.modules.documenttype.domain.spi.DocumentTypePersistencePort;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Document types are seed data (V3), so they are loaded once at startup into an
+ * immutable snapshot indexed by country code, and searches are map reads.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DocumentTypeUseCase implements DocumentTypeServicePort {
 
     private final DocumentTypePersistencePort persistencePort;
+    private volatile Map<String, List<DocumentTypeDomain>> byCountry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    @Override
+    public synchronized void reload() {
+        Map<String, List<DocumentTypeDomain>> grouped = new LinkedHashMap<>();
+        for (DocumentTypeDomain documentType : persistencePort.findAll()) {
+            grouped.computeIfAbsent(documentType.getCountryCode(), code -> new ArrayList<>()).add(documentType);
+        }
+        grouped.replaceAll((code, documentTypes) -> List.copyOf(documentTypes));
+        byCountry = Map.copyOf(grouped);
+        log.info("Document types loaded for {} countries", byCountry.size());
+    }
 
     @Override
     public List<DocumentTypeDomain> getDocumentTypesByCountry(String countryCode) {
         if (countryCode == null || countryCode.trim().isEmpty()) {
             throw InvalidDocumentTypeSearchException.missingCountryCode();
         }
-        return persistencePort.findByCountryCode(countryCode.trim().toUpperCase());
+        return getAllByCountry().getOrDefault(countryCode.trim().toUpperCase(), List.of());
+    }
+
+    @Override
+    public Map<String, List<DocumentTypeDomain>> getAllByCountry() {
+        Map<String, List<DocumentTypeDomain>> current = byCountry;
+        if (current == null) {
+            synchronized (this) {
+                if (byCountry == null) {
+                    reload();
+                }
+                current = byCountry;
+            }
+        }
+        return current;
     }
 }
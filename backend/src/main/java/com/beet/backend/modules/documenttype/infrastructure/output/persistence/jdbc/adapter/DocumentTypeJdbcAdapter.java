@@ -2,25 +2,33 @@ package com.beet.backend.modules.documenttype.infrastructure.output.persistence.
 
 import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
 import com.beet.backend.modules.documenttype.domain.spi.DocumentTypePersistencePort;
-import com.beet.backend.modules.documenttype.infrastructure.output.persistence.jdbc.mapper.DocumentTypeAggregateMapper;
-import com.beet.backend.modules.documenttype.infrastructure.output.persistence.jdbc.repository.DocumentTypeJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class DocumentTypeJdbcAdapter implements DocumentTypePersistencePort {
 
-    private final DocumentTypeJdbcRepository repository;
-    private final DocumentTypeAggregateMapper mapper;
+    private final JdbcClient jdbcClient;
 
     @Override
-    public List<DocumentTypeDomain> findByCountryCode(String countryCode) {
-        return repository.findByCountryCode(countryCode).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public List<DocumentTypeDomain> findAll() {
+        return jdbcClient.sql("""
+                SELECT dt.id, dt.name, dt.description, c.country_code
+                FROM document_types dt
+                JOIN countries c ON dt.country_id = c.id
+                ORDER BY c.country_code, dt.name
+                """)
+                .query((rs, rowNum) -> DocumentTypeDomain.builder()
+                        .id(UUID.fromString(rs.getString("id")))
+                        .name(rs.getString("name"))
+                        .description(rs.getString("description"))
+                        .countryCode(rs.getString("country_code"))
+                        .build())
+                .list();
     }
 }
@@ -0,0 +1,20 @@
+package com.beet.backend.modules.ingredient.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One ingredient of a catalog export: the list columns plus the active supplier
+ * item from the detail view. Supplier fields are null when none is linked yet.
+ */
+public record IngredientExportRow(
+        UUID id,
+        String name,
+        String unitAbbreviation,
+        BigDecimal costPerBaseUnit,
+        UUID supplierId,
+        String supplierName,
+        String brandName,
+        String purchaseUnitName,
+        BigDecimal conversionFactor) {
+}
@@ -0,0 +1,13 @@
+package com.beet.backend.modules.ingredient.application.dto;
+
+import java.util.List;
+
+public record IngredientImportResponse(
+        int imported,
+        int failed,
+        List<RowError> errors,
+        boolean errorsTruncated) { // true when failed > errors.size()
+
+    public record RowError(long row, String message) {
+    }
+}
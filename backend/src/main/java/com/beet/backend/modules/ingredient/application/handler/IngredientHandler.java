@@ -2,11 +2,16 @@ package com.beet.backend.modules.ingredient.application.handler;
 
 import com.beet.backend.modules.ingredient.application.dto.CreateIngredientRequest;
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientImportResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientResponse;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,7 +20,19 @@ public interface IngredientHandler {
 
     ApiGenericResponse<PageResponse<IngredientListResponse>> list(
             UUID ownerId, int page, int size,
+            String search, String sortBy, boolean sortDesc, List<String> units,
+            boolean withTotal);
+
+    ApiGenericResponse<CursorPageResponse<IngredientListResponse>> listAfter(
+            UUID ownerId, String cursor, int size,
             String search, String sortBy, boolean sortDesc, List<String> units);
 
     ApiGenericResponse<IngredientDetailResponse> findById(UUID id, UUID ownerId);
+
+    /** @param ndjson true for newline-delimited JSON, false for CSV */
+    ApiGenericResponse<IngredientImportResponse> importIngredients(InputStream body, boolean ndjson, UUID ownerId);
+
+    /** Writes the catalog to {@code output} as CSV, or NDJSON when {@code ndjson} is true. */
+    void export(UUID ownerId, String search, List<String> units, boolean ndjson, OutputStream output)
+            throws IOException;
 }
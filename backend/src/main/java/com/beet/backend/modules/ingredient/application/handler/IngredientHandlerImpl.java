@@ -2,19 +2,30 @@ package com.beet.backend.modules.ingredient.application.handler;
 
 import com.beet.backend.modules.ingredient.application.dto.CreateIngredientRequest;
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientImportResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientResponse;
 import com.beet.backend.modules.ingredient.application.mapper.IngredientServiceMapper;
+import com.beet.backend.modules.ingredient.application.parser.IngredientImportParser;
+import com.beet.backend.modules.ingredient.application.writer.IngredientExportWriter;
+import com.beet.backend.modules.ingredient.domain.api.IngredientImportServicePort;
 import com.beet.backend.modules.ingredient.domain.api.IngredientServicePort;
 import com.beet.backend.modules.ingredient.domain.exception.IngredientNotFoundException;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportRow;
 import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
 import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
 import com.beet.backend.modules.supplier.domain.model.SupplierDomain;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,7 +34,9 @@ import java.util.UUID;
 public class IngredientHandlerImpl implements IngredientHandler {
 
     private final IngredientServicePort servicePort;
+    private final IngredientImportServicePort importServicePort;
     private final IngredientServiceMapper mapper;
+    private final ObjectMapper objectMapper;
 
     @Override
     public ApiGenericResponse<IngredientResponse> create(CreateIngredientRequest request, UUID ownerId) {
@@ -48,9 +61,18 @@ public class IngredientHandlerImpl implements IngredientHandler {
     @Override
     public ApiGenericResponse<PageResponse<IngredientListResponse>> list(
             UUID ownerId, int page, int size,
+            String search, String sortBy, boolean sortDesc, List<String> units,
+            boolean withTotal) {
+        return ApiGenericResponse.success(
+                servicePort.list(ownerId, page, size, search, sortBy, sortDesc, units, withTotal));
+    }
+
+    @Override
+    public ApiGenericResponse<CursorPageResponse<IngredientListResponse>> listAfter(
+            UUID ownerId, String cursor, int size,
             String search, String sortBy, boolean sortDesc, List<String> units) {
         return ApiGenericResponse.success(
-                servicePort.list(ownerId, page, size, search, sortBy, sortDesc, units));
+                servicePort.listAfter(ownerId, cursor, size, search, sortBy, sortDesc, units));
     }
 
     @Override
@@ -59,4 +81,23 @@ public class IngredientHandlerImpl implements IngredientHandler {
                 .orElseThrow(() -> IngredientNotFoundException.forId(id));
         return ApiGenericResponse.success(detail);
     }
+
+    @Override
+    public ApiGenericResponse<IngredientImportResponse> importIngredients(InputStream body, boolean ndjson, UUID ownerId) {
+        // Rows are parsed lazily while the use case consumes them
+        Iterator<IngredientImportRow> rows = ndjson
+                ? IngredientImportParser.ndjson(body, objectMapper)
+                : IngredientImportParser.csv(body);
+        return ApiGenericResponse.success(mapper.toImportResponse(importServicePort.importRows(rows, ownerId)));
+    }
+
+    @Override
+    public void export(UUID ownerId, String search, List<String> units, boolean ndjson, OutputStream output)
+            throws IOException {
+        IngredientExportWriter writer = ndjson
+                ? IngredientExportWriter.ndjson(output, objectMapper)
+                : IngredientExportWriter.csv(output);
+        servicePort.export(ownerId, search, units, writer);
+        writer.finish();
+    }
 }
@@ -1,7 +1,9 @@
 package com.beet.backend.modules.ingredient.application.mapper;
 
 import com.beet.backend.modules.ingredient.application.dto.CreateIngredientRequest;
+import com.beet.backend.modules.ingredient.application.dto.IngredientImportResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientResponse;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportReport;
 import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
 import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
 import com.beet.backend.modules.supplier.domain.model.SupplierDomain;
@@ -47,4 +49,14 @@ public class IngredientServiceMapper {
                         supplierItem.getConversionFactor(),
                         supplierItem.getLastCostBase()));
     }
+
+    public IngredientImportResponse toImportResponse(IngredientImportReport report) {
+        return new IngredientImportResponse(
+                report.imported(),
+                report.failed(),
+                report.errors().stream()
+                        .map(error -> new IngredientImportResponse.RowError(error.row(), error.message()))
+                        .toList(),
+                report.errorsTruncated());
+    }
 }
@@ -0,0 +1,212 @@
+package com.beet.backend.modules.ingredient.application.parser;
+
+import com.beet.backend.modules.ingredient.domain.exception.InvalidImportFileException;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an import upload line by line into {@link IngredientImportRow}s. Nothing is
+ * buffered beyond the current line, so the upload is never held in memory.
+ *
+ * <p>Both formats use the same field names: {@code name, baseUnit, supplierId,
+ * purchaseUnitName, brandName, conversionFactor, conversionUnit, totalPrice}.
+ * CSV needs a header row (any column order, {@code brandName} optional) and allows
+ * double-quoted fields, but not line breaks inside them.
+ */
+public final class IngredientImportParser {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "name", "baseUnit", "supplierId", "purchaseUnitName", "conversionFactor", "conversionUnit", "totalPrice");
+    private static final String BRAND_NAME = "brandName";
+    private static final char BOM = '\uFEFF';
+
+    private IngredientImportParser() {
+    }
+
+    public static Iterator<IngredientImportRow> csv(InputStream input) {
+        BufferedReader reader = reader(input);
+        String header = readLine(reader);
+        if (header == null) {
+            throw InvalidImportFileException.empty();
+        }
+        if (!header.isEmpty() && header.charAt(0) == BOM) {
+            header = header.substring(1);
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> columns = splitCsv(header);
+        if (columns == null) {
+            throw InvalidImportFileException.missingColumns(REQUIRED_COLUMNS);
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            positions.put(columns.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !positions.containsKey(column.toLowerCase(Locale.ROOT)))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw InvalidImportFileException.missingColumns(missing);
+        }
+
+        return new LineIterator(reader, 1, (lineNumber, line) -> {
+            List<String> values = splitCsv(line);
+            if (values == null) {
+                return IngredientImportRow.malformed(lineNumber, "Unterminated quoted field");
+            }
+            return new IngredientImportRow(
+                    lineNumber,
+                    column(values, positions, "name"),
+                    column(values, positions, "baseUnit"),
+                    column(values, positions, "supplierId"),
+                    column(values, positions, "purchaseUnitName"),
+                    column(values, positions, BRAND_NAME),
+                    column(values, positions, "conversionFactor"),
+                    column(values, positions, "conversionUnit"),
+                    column(values, positions, "totalPrice"),
+                    null);
+        });
+    }
+
+    public static Iterator<IngredientImportRow> ndjson(InputStream input, ObjectMapper objectMapper) {
+        return new LineIterator(reader(input), 0, (lineNumber, line) -> {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException ex) {
+                return IngredientImportRow.malformed(lineNumber, "Invalid JSON");
+            }
+            if (!node.isObject()) {
+                return IngredientImportRow.malformed(lineNumber, "Expected a JSON object");
+            }
+            return new IngredientImportRow(
+                    lineNumber,
+                    text(node, "name"),
+                    text(node, "baseUnit"),
+                    text(node, "supplierId"),
+                    text(node, "purchaseUnitName"),
+                    text(node, BRAND_NAME),
+                    text(node, "conversionFactor"),
+                    text(node, "conversionUnit"),
+                    text(node, "totalPrice"),
+                    null);
+        });
+    }
+
+    /**
+     * Splits one CSV line. Quoted fields may contain commas and doubled quotes.
+     * Returns null when a quoted field is not closed on the same line.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String column(List<String> values, Map<String, Integer> positions, String column) {
+        Integer position = positions.get(column.toLowerCase(Locale.ROOT));
+        return position != null && position < values.size() ? values.get(position) : null;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static BufferedReader reader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineMapper {
+        IngredientImportRow map(long lineNumber, String line);
+    }
+
+    /** Lazily maps non-blank lines; one line of look-ahead for {@link #hasNext()}. */
+    private static final class LineIterator implements Iterator<IngredientImportRow> {
+
+        private final BufferedReader reader;
+        private final LineMapper mapper;
+        private long lineNumber;
+        private IngredientImportRow next;
+
+        LineIterator(BufferedReader reader, long linesConsumed, LineMapper mapper) {
+            this.reader = reader;
+            this.lineNumber = linesConsumed;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                String line = readLine(reader);
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    next = mapper.map(lineNumber, line);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public IngredientImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IngredientImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.beet.backend.modules.ingredient.application.writer;
+
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes export rows to the response as they come off the cursor. Only a small
+ * write buffer is held; call {@link #finish()} once the last row is written.
+ */
+public abstract class IngredientExportWriter implements Consumer<IngredientExportRow> {
+
+    protected final Writer out;
+
+    private IngredientExportWriter(OutputStream output) {
+        this.out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    /** CSV with a header row; same column names as the NDJSON fields. */
+    public static IngredientExportWriter csv(OutputStream output) {
+        return new Csv(output);
+    }
+
+    /** One JSON object per line. */
+    public static IngredientExportWriter ndjson(OutputStream output, ObjectMapper objectMapper) {
+        return new Ndjson(output, objectMapper);
+    }
+
+    @Override
+    public void accept(IngredientExportRow row) {
+        try {
+            write(row);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    protected abstract void write(IngredientExportRow row) throws IOException;
+
+    private static final class Csv extends IngredientExportWriter {
+
+        private static final String HEADER = "id,name,unitAbbreviation,costPerBaseUnit,supplierId,supplierName,"
+                + "brandName,purchaseUnitName,conversionFactor\n";
+
+        private boolean headerWritten;
+
+        Csv(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        protected void write(IngredientExportRow row) throws IOException {
+            writeHeader();
+            out.write(String.join(",",
+                    field(row.id()),
+                    field(row.name()),
+                    field(row.unitAbbreviation()),
+                    field(row.costPerBaseUnit() != null ? row.costPerBaseUnit().toPlainString() : null),
+                    field(row.supplierId()),
+                    field(row.supplierName()),
+                    field(row.brandName()),
+                    field(row.purchaseUnitName()),
+                    field(row.conversionFactor() != null ? row.conversionFactor().toPlainString() : null)));
+            out.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writeHeader(); // an empty catalog still gets its header
+            super.finish();
+        }
+
+        private void writeHeader() throws IOException {
+            if (!headerWritten) {
+                out.write(HEADER);
+                headerWritten = true;
+            }
+        }
+
+        /** Quotes only when needed, doubling embedded quotes (RFC 4180). */
+        private static String field(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static final class Ndjson extends IngredientExportWriter {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(OutputStream output, ObjectMapper objectMapper) {
+            super(output);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected void write(IngredientExportRow row) throws IOException {
+            out.write(objectMapper.writeValueAsString(row));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.beet.backend.modules.ingredient.domain.api;
+
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportReport;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportRow;
+
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * Service port for bulk ingredient import.
+ */
+public interface IngredientImportServicePort {
+
+    /**
+     * Imports each row as a master ingredient with its first (active) supplier item,
+     * using the same Beet Math Engine as single creation. Rows are consumed lazily
+     * and written in batches, so memory does not grow with the upload.
+     * Invalid rows are skipped and reported; they never abort the import.
+     */
+    IngredientImportReport importRows(Iterator<IngredientImportRow> rows, UUID ownerId);
+}
@@ -1,16 +1,19 @@
 package com.beet.backend.modules.ingredient.domain.api;
 
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
 import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
 import com.beet.backend.modules.supplier.domain.model.SupplierDomain;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service port for ingredient operations.
@@ -43,10 +46,23 @@ public interface IngredientServicePort {
 
     /**
      * Lists ingredients for the given owner with server-side pagination, search,
-     * sorting and unit facets.
+     * sorting and unit facets. A search without {@code sortBy} is ordered by
+     * relevance. With {@code withTotal} false the total is skipped
+     * (reported as -1) and only whether a next page exists is known.
      */
     PageResponse<IngredientListResponse> list(
             UUID ownerId, int page, int size,
+            String search, String sortBy, boolean sortDesc, List<String> units,
+            boolean withTotal);
+
+    /**
+     * Lists ingredients for the given owner with keyset pagination: each page
+     * continues after the opaque {@code cursor} returned by the previous one, so deep
+     * pages cost the same as the first. Same search, sorting and unit facets as
+     * {@link #list}.
+     */
+    CursorPageResponse<IngredientListResponse> listAfter(
+            UUID ownerId, String cursor, int size,
             String search, String sortBy, boolean sortDesc, List<String> units);
 
     /**
@@ -54,4 +70,10 @@ public interface IngredientServicePort {
      * Returns empty if not found or the owner does not own it.
      */
     Optional<IngredientDetailResponse> findById(UUID id, UUID ownerId);
+
+    /**
+     * Pushes the owner's whole catalog (same search and unit facets as {@link #list})
+     * to {@code sink} row by row, without holding it in memory.
+     */
+    void export(UUID ownerId, String search, List<String> units, Consumer<IngredientExportRow> sink);
 }
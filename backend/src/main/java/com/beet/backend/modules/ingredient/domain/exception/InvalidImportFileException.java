@@ -0,0 +1,22 @@
+package com.beet.backend.modules.ingredient.domain.exception;
+
+import java.util.Collection;
+
+/**
+ * The upload can't be read as a whole (as opposed to single bad rows, which are
+ * reported per row).
+ */
+public class InvalidImportFileException extends RuntimeException {
+
+    private InvalidImportFileException(String message) {
+        super(message);
+    }
+
+    public static InvalidImportFileException empty() {
+        return new InvalidImportFileException("Import file is empty");
+    }
+
+    public static InvalidImportFileException missingColumns(Collection<String> columns) {
+        return new InvalidImportFileException("Import file is missing required columns: " + String.join(", ", columns));
+    }
+}
@@ -0,0 +1,42 @@
+package com.beet.backend.modules.ingredient.domain.model;
+
+import com.beet.backend.modules.ingredient.domain.exception.UnitTypeMismatchException;
+import com.beet.backend.modules.unit.domain.model.UnitDomain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Beet Math Engine: turns what the user bought (a purchase unit measured in some unit,
+ * at a total price) into the supplier item's base-unit factor and cost.
+ * Shared by single create and bulk import so both compute identical values.
+ */
+public record IngredientCosting(BigDecimal conversionFactor, BigDecimal lastCostBase) {
+
+    private static final int COST_SCALE = 6;
+
+    /**
+     * @param baseUnit             the ingredient's base unit (g, ml, pcs)
+     * @param conversionUnit       the unit the user measured the purchase in (e.g. kg)
+     * @param userConversionFactor how many of conversionUnit per purchase unit (e.g. 25)
+     * @param totalPrice           total price paid for the purchase unit
+     */
+    public static IngredientCosting of(UnitDomain baseUnit, UnitDomain conversionUnit,
+            BigDecimal userConversionFactor, BigDecimal totalPrice) {
+        // Both units must be the same type (MASS↔MASS, VOLUME↔VOLUME)
+        if (baseUnit.getType() != conversionUnit.getType()) {
+            throw UnitTypeMismatchException.between(
+                    baseUnit.getType().name(), conversionUnit.getType().name());
+        }
+
+        // finalFactor = userConversionFactor × conversionUnit.factorToBase
+        // e.g. 25 kg × 1000 (g/kg) = 25,000 g
+        BigDecimal finalFactor = userConversionFactor.multiply(conversionUnit.getFactorToBase());
+
+        // lastCostBase = totalPrice / finalFactor
+        // e.g. 45,000 / 25,000 = 1.80
+        BigDecimal lastCostBase = totalPrice.divide(finalFactor, COST_SCALE, RoundingMode.HALF_UP);
+
+        return new IngredientCosting(finalFactor, lastCostBase);
+    }
+}
@@ -0,0 +1,18 @@
+package com.beet.backend.modules.ingredient.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Valid rows are imported, invalid ones are skipped and
+ * listed with the reason. The list is capped so a broken file can't blow up the
+ * response; {@code failed} always carries the real count.
+ */
+public record IngredientImportReport(int imported, int failed, List<RowError> errors) {
+
+    public record RowError(long row, String message) {
+    }
+
+    public boolean errorsTruncated() {
+        return errors.size() < failed;
+    }
+}
@@ -0,0 +1,26 @@
+package com.beet.backend.modules.ingredient.domain.model;
+
+/**
+ * One record of a bulk import, exactly as it was read from the upload.
+ * Values stay raw strings so that every problem (unknown unit, bad number, foreign
+ * supplier) is reported against its row instead of failing the whole request.
+ *
+ * @param rowNumber   1-based line number in the upload, so errors point at the line to fix
+ * @param parseError  set when the record could not be read at all; the other fields are then null
+ */
+public record IngredientImportRow(
+        long rowNumber,
+        String name,
+        String baseUnit, // unit abbreviation (g, ml, pcs)
+        String supplierId,
+        String purchaseUnitName,
+        String brandName,
+        String conversionFactor,
+        String conversionUnit, // unit abbreviation (kg, L, ...)
+        String totalPrice,
+        String parseError) {
+
+    public static IngredientImportRow malformed(long rowNumber, String message) {
+        return new IngredientImportRow(rowNumber, null, null, null, null, null, null, null, null, message);
+    }
+}
@@ -1,28 +1,65 @@
 package com.beet.backend.modules.ingredient.domain.spi;
 
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
 import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IngredientPersistencePort {
 
-    MasterIngredientDomain saveMasterIngredient(MasterIngredientDomain ingredient);
+    /**
+     * Inserts an ingredient together with its first supplier item, already linked as
+     * the active one, in a single statement. Assigns both ids and returns the
+     * ingredient with its activeSupplierItemId set.
+     */
+    MasterIngredientDomain saveWithActiveItem(MasterIngredientDomain ingredient, SupplierItemDomain supplierItem);
 
-    SupplierItemDomain saveSupplierItem(SupplierItemDomain supplierItem);
+    boolean existsByNameAndOwnerId(String name, UUID ownerId);
 
-    void updateActiveSupplierItem(UUID masterIngredientId, UUID supplierItemId);
+    /** Returns which of {@code names} the owner already uses (same match as {@link #existsByNameAndOwnerId}). */
+    Set<String> findExistingNames(UUID ownerId, Collection<String> names);
 
-    boolean existsByNameAndOwnerId(String name, UUID ownerId);
+    /**
+     * Inserts new ingredients and their supplier items with JDBC batching. Ids are
+     * pre-assigned by the caller and each ingredient's activeSupplierItemId must
+     * reference one of {@code supplierItems}; the link is checked once both are inserted.
+     * Must run inside a transaction.
+     */
+    void saveAllWithActiveItems(List<MasterIngredientDomain> ingredients, List<SupplierItemDomain> supplierItems);
 
+    /**
+     * @param withTotal when false the total is not counted; the page reports it as
+     *                  unknown and only tells whether a next page exists
+     */
     PageResponse<IngredientListResponse> findAllByOwnerId(
             UUID ownerId, int page, int size,
+            String search, String sortBy, boolean sortDesc, List<String> units,
+            boolean withTotal);
+
+    /**
+     * Keyset variant of {@link #findAllByOwnerId}: returns the rows after {@code cursor}
+     * (the first page when null) without counting the total.
+     */
+    CursorPageResponse<IngredientListResponse> findAllByOwnerIdAfter(
+            UUID ownerId, String cursor, int size,
             String search, String sortBy, boolean sortDesc, List<String> units);
 
     Optional<IngredientDetailResponse> findDetailById(UUID id, UUID ownerId);
+
+    /**
+     * Streams every matching ingredient to {@code sink} in name order, reading through a
+     * forward-only cursor in chunks. Must run inside a transaction, otherwise the
+     * driver loads the whole result at once.
+     */
+    void streamAllByOwnerId(UUID ownerId, String search, List<String> units, Consumer<IngredientExportRow> sink);
 }
@@ -0,0 +1,225 @@
+package com.beet.backend.modules.ingredient.domain.usecase;
+
+import com.beet.backend.modules.ingredient.domain.api.IngredientImportServicePort;
+import com.beet.backend.modules.ingredient.domain.exception.UnitTypeMismatchException;
+import com.beet.backend.modules.ingredient.domain.model.IngredientCosting;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportReport;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportReport.RowError;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportRow;
+import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
+import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
+import com.beet.backend.modules.ingredient.domain.spi.IngredientPersistencePort;
+import com.beet.backend.modules.supplier.domain.api.SupplierServicePort;
+import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.modules.unit.domain.model.UnitDomain;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk import: rows are pulled from the iterator one batch at a time. Units come from
+ * the in-memory unit registry, supplier ownership and duplicate names are checked once
+ * per batch, and each batch is written with JDBC batching. The whole import is one
+ * transaction, so it is all-or-nothing for the valid rows.
+ */
+@Service
+public class IngredientImportUseCase implements IngredientImportServicePort {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_PURCHASE_UNIT_LENGTH = 50;
+
+    private final IngredientPersistencePort persistencePort;
+    private final UnitServicePort unitServicePort;
+    private final SupplierServicePort supplierServicePort;
+    private final int batchSize;
+
+    public IngredientImportUseCase(
+            IngredientPersistencePort persistencePort,
+            UnitServicePort unitServicePort,
+            SupplierServicePort supplierServicePort,
+            @Value("${application.ingredients.import.batch-size:500}") int batchSize) {
+        this.persistencePort = persistencePort;
+        this.unitServicePort = unitServicePort;
+        this.supplierServicePort = supplierServicePort;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public IngredientImportReport importRows(Iterator<IngredientImportRow> rows, UUID ownerId) {
+        Report report = new Report();
+        List<Candidate> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            IngredientImportRow row = rows.next();
+            try {
+                batch.add(parse(row));
+            } catch (InvalidRowException | UnitTypeMismatchException ex) {
+                report.fail(row.rowNumber(), ex.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                importBatch(batch, ownerId, report);
+                batch.clear();
+            }
+        }
+        importBatch(batch, ownerId, report);
+        return report.toReport();
+    }
+
+    private void importBatch(List<Candidate> batch, UUID ownerId, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 1. One lookup each for supplier ownership and already used names
+        Set<UUID> supplierIds = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Candidate candidate : batch) {
+            supplierIds.add(candidate.supplierId());
+            names.add(candidate.name());
+        }
+        Set<UUID> ownedSuppliers = supplierServicePort.findOwnedIds(supplierIds, ownerId);
+        Set<String> takenNames = new HashSet<>(persistencePort.findExistingNames(ownerId, names));
+
+        // 2. Build the rows to insert; ids are assigned here so the batch needs no RETURNING
+        List<MasterIngredientDomain> ingredients = new ArrayList<>(batch.size());
+        List<SupplierItemDomain> supplierItems = new ArrayList<>(batch.size());
+        for (Candidate candidate : batch) {
+            if (!ownedSuppliers.contains(candidate.supplierId())) {
+                report.fail(candidate.rowNumber(), "Supplier not found with id: " + candidate.supplierId());
+                continue;
+            }
+            if (!takenNames.add(candidate.name())) {
+                report.fail(candidate.rowNumber(), "Ingredient with name '" + candidate.name() + "' already exists");
+                continue;
+            }
+
+            UUID ingredientId = UUID.randomUUID();
+            UUID supplierItemId = UUID.randomUUID();
+            ingredients.add(MasterIngredientDomain.builder()
+                    .id(ingredientId)
+                    .ownerId(ownerId)
+                    .name(candidate.name())
+                    .baseUnitId(candidate.baseUnitId())
+                    .activeSupplierItemId(supplierItemId)
+                    .build());
+            supplierItems.add(SupplierItemDomain.builder()
+                    .id(supplierItemId)
+                    .masterIngredientId(ingredientId)
+                    .supplierId(candidate.supplierId())
+                    .brandName(candidate.brandName())
+                    .purchaseUnitName(candidate.purchaseUnitName())
+                    .conversionFactor(candidate.costing().conversionFactor())
+                    .lastCostBase(candidate.costing().lastCostBase())
+                    .build());
+        }
+
+        // 3. Persist with JDBC batching
+        persistencePort.saveAllWithActiveItems(ingredients, supplierItems);
+        report.imported += ingredients.size();
+    }
+
+    /** Checks a row on its own and runs the Beet Math Engine; cross-row checks happen per batch. */
+    private Candidate parse(IngredientImportRow row) {
+        if (row.parseError() != null) {
+            throw new InvalidRowException(row.parseError());
+        }
+
+        String name = required(row.name(), "name", MAX_NAME_LENGTH);
+        String purchaseUnitName = required(row.purchaseUnitName(), "purchaseUnitName", MAX_PURCHASE_UNIT_LENGTH);
+        String brandName = isBlank(row.brandName()) ? null : row.brandName().strip();
+        if (brandName != null && brandName.length() > MAX_NAME_LENGTH) {
+            throw new InvalidRowException("brandName must be at most " + MAX_NAME_LENGTH + " characters");
+        }
+
+        UnitDomain baseUnit = unit(row.baseUnit(), "baseUnit");
+        UnitDomain conversionUnit = unit(row.conversionUnit(), "conversionUnit");
+        BigDecimal conversionFactor = positive(row.conversionFactor(), "conversionFactor");
+        BigDecimal totalPrice = positive(row.totalPrice(), "totalPrice");
+
+        UUID supplierId;
+        try {
+            supplierId = UUID.fromString(required(row.supplierId(), "supplierId", Integer.MAX_VALUE));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRowException("supplierId is not a valid id: " + row.supplierId());
+        }
+
+        IngredientCosting costing = IngredientCosting.of(baseUnit, conversionUnit, conversionFactor, totalPrice);
+        return new Candidate(row.rowNumber(), name, baseUnit.getId(), supplierId, purchaseUnitName, brandName, costing);
+    }
+
+    private static String required(String value, String field, int maxLength) {
+        if (isBlank(value)) {
+            throw new InvalidRowException(field + " is required");
+        }
+        String stripped = value.strip();
+        if (stripped.length() > maxLength) {
+            throw new InvalidRowException(field + " must be at most " + maxLength + " characters");
+        }
+        return stripped;
+    }
+
+    private UnitDomain unit(String abbreviation, String field) {
+        UnitDomain unit = unitServicePort.findByAbbreviation(required(abbreviation, field, Integer.MAX_VALUE));
+        if (unit == null) {
+            throw new InvalidRowException("Unknown " + field + ": " + abbreviation.strip());
+        }
+        return unit;
+    }
+
+    private static BigDecimal positive(String value, String field) {
+        BigDecimal number;
+        try {
+            number = new BigDecimal(required(value, field, Integer.MAX_VALUE));
+        } catch (NumberFormatException ex) {
+            throw new InvalidRowException(field + " is not a number: " + value.strip());
+        }
+        if (number.signum() <= 0) {
+            throw new InvalidRowException(field + " must be greater than 0");
+        }
+        return number;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /** A row that passed the single-row checks, with its costing computed. */
+    private record Candidate(long rowNumber, String name, UUID baseUnitId, UUID supplierId,
+            String purchaseUnitName, String brandName, IngredientCosting costing) {
+    }
+
+    /** Row-level validation failure; reported, never propagated. */
+    private static class InvalidRowException extends RuntimeException {
+        InvalidRowException(String message) {
+            super(message);
+        }
+    }
+
+    /** Counts every failure but keeps only the first {@link #MAX_REPORTED_ERRORS} messages. */
+    private static class Report {
+        private final List<RowError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, message));
+            }
+        }
+
+        IngredientImportReport toReport() {
+            return new IngredientImportReport(imported, failed, List.copyOf(errors));
+        }
+    }
+}
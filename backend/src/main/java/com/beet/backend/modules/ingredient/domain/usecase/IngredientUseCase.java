@@ -1,10 +1,12 @@
 package com.beet.backend.modules.ingredient.domain.usecase;
 
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.domain.api.IngredientServicePort;
 import com.beet.backend.modules.ingredient.domain.exception.IngredientAlreadyExistsException;
 import com.beet.backend.modules.ingredient.domain.exception.UnitTypeMismatchException;
+import com.beet.backend.modules.ingredient.domain.model.IngredientCosting;
 import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
 import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
 import com.beet.backend.modules.ingredient.domain.spi.IngredientPersistencePort;
@@ -12,16 +14,18 @@ import com.beet.backend.modules.supplier.domain.api.SupplierServicePort;
 import com.beet.backend.modules.supplier.domain.model.SupplierDomain;
 import com.beet.backend.modules.unit.domain.api.UnitServicePort;
 import com.beet.backend.modules.unit.domain.model.UnitDomain;
+import com.beet.backend.shared.domain.exception.InvalidPageRequestException;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -58,54 +62,57 @@ public class IngredientUseCase implements IngredientServicePort {
             throw UnitTypeMismatchException.unitNotFound(conversionUnitId);
         }
 
-        // 3. Validate: both units must be the same type (MASS↔MASS, VOLUME↔VOLUME)
-        if (baseUnit.getType() != conversionUnit.getType()) {
-            throw UnitTypeMismatchException.between(
-                    baseUnit.getType().name(), conversionUnit.getType().name());
-        }
-
-        // 4. Beet Math Engine — Calculate final factor
-        // finalFactor = userConversionFactor × conversionUnit.factorToBase
-        // e.g. 25 kg × 1000 (g/kg) = 25,000 g
-        BigDecimal finalFactor = userConversionFactor.multiply(conversionUnit.getFactorToBase());
-
-        // 5. Calculate cost per base unit
-        // lastCostBase = totalPrice / finalFactor
-        // e.g. 45,000 / 25,000 = 1.80
-        BigDecimal lastCostBase = totalPrice.divide(finalFactor, 6, RoundingMode.HALF_UP);
+        // 3-5. Beet Math Engine — same unit type, final factor and cost per base unit
+        IngredientCosting costing = IngredientCosting.of(baseUnit, conversionUnit, userConversionFactor, totalPrice);
 
         // 6. Resolve or create supplier via SupplierServicePort
         SupplierDomain resolvedSupplier = supplierServicePort.findOrCreate(supplier, ownerId);
 
-        // 7. Persist master ingredient
+        // 7. Persist master ingredient and its supplier item (computed values), linked
+        // as the active one, in one round trip
         ingredient.setOwnerId(ownerId);
-        MasterIngredientDomain savedIngredient = persistencePort.saveMasterIngredient(ingredient);
-
-        // 8. Persist supplier item with computed values
-        supplierItem.setMasterIngredientId(savedIngredient.getId());
         supplierItem.setSupplierId(resolvedSupplier.getId());
-        supplierItem.setConversionFactor(finalFactor);
-        supplierItem.setLastCostBase(lastCostBase);
-        SupplierItemDomain savedItem = persistencePort.saveSupplierItem(supplierItem);
-        supplierItem.setId(savedItem.getId());
-
-        // 9. Activate: set the first supplier item as active
-        persistencePort.updateActiveSupplierItem(savedIngredient.getId(), savedItem.getId());
-
-        // 10. Return enriched domain
-        savedIngredient.setActiveSupplierItemId(savedItem.getId());
-        return savedIngredient;
+        supplierItem.setConversionFactor(costing.conversionFactor());
+        supplierItem.setLastCostBase(costing.lastCostBase());
+        return persistencePort.saveWithActiveItem(ingredient, supplierItem);
     }
 
     @Override
     public PageResponse<IngredientListResponse> list(
             UUID ownerId, int page, int size,
+            String search, String sortBy, boolean sortDesc, List<String> units,
+            boolean withTotal) {
+        // An empty page carries no COUNT(*) OVER() total, so a zero size would report 0 rows
+        requireValidSize(size);
+        if (page < 0) {
+            throw InvalidPageRequestException.forPage(page);
+        }
+        return persistencePort.findAllByOwnerId(ownerId, page, size, search, sortBy, sortDesc, units, withTotal);
+    }
+
+    @Override
+    public CursorPageResponse<IngredientListResponse> listAfter(
+            UUID ownerId, String cursor, int size,
             String search, String sortBy, boolean sortDesc, List<String> units) {
-        return persistencePort.findAllByOwnerId(ownerId, page, size, search, sortBy, sortDesc, units);
+        requireValidSize(size);
+        return persistencePort.findAllByOwnerIdAfter(ownerId, cursor, size, search, sortBy, sortDesc, units);
     }
 
     @Override
     public Optional<IngredientDetailResponse> findById(UUID id, UUID ownerId) {
         return persistencePort.findDetailById(id, ownerId);
     }
+
+    @Override
+    @Transactional(readOnly = true) // keeps auto-commit off so the cursor fetches in chunks
+    public void export(UUID ownerId, String search, List<String> units, Consumer<IngredientExportRow> sink) {
+        persistencePort.streamAllByOwnerId(ownerId, search, units, sink);
+    }
+
+    /** The adapters size LIMIT (and the has-next look-ahead) from it, so it must be positive and bounded. */
+    private static void requireValidSize(int size) {
+        if (size < 1 || size > InvalidPageRequestException.MAX_PAGE_SIZE) {
+            throw InvalidPageRequestException.forSize(size);
+        }
+    }
 }
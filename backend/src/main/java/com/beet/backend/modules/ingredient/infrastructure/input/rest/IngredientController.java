@@ -2,18 +2,26 @@ package com.beet.backend.modules.ingredient.infrastructure.input.rest;
 
 import com.beet.backend.modules.ingredient.application.dto.CreateIngredientRequest;
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientImportResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.application.dto.IngredientResponse;
 import com.beet.backend.modules.ingredient.application.handler.IngredientHandler;
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+import com.beet.backend.shared.domain.annotation.RequiresFeature;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
 import com.beet.backend.shared.infrastructure.security.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +35,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class IngredientController {
 
+    private static final String CSV = "text/csv";
+    private static final String NDJSON = MediaType.APPLICATION_NDJSON_VALUE;
+
     private final IngredientHandler handler;
 
     @PostMapping
@@ -37,16 +48,68 @@ public class IngredientController {
                 .body(handler.create(request, ownerId));
     }
 
+    /**
+     * Bulk import from CSV (header row required) or NDJSON, read as a stream.
+     * Invalid rows are skipped and listed in the response; the rest are imported.
+     */
+    @PostMapping(value = "/import", consumes = { CSV, NDJSON })
+    public ResponseEntity<ApiGenericResponse<IngredientImportResponse>> importIngredients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        UUID ownerId = SecurityUtils.getAuthenticatedUserId();
+        boolean ndjson = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(NDJSON));
+        return ResponseEntity.ok(handler.importIngredients(body, ndjson, ownerId));
+    }
+
     @GetMapping
     public ResponseEntity<ApiGenericResponse<PageResponse<IngredientListResponse>>> list(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String sortBy, // none: relevance when searching, else name
+            @RequestParam(defaultValue = "false") boolean sortDesc,
+            @RequestParam(required = false) List<String> unit,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        UUID ownerId = SecurityUtils.getAuthenticatedUserId();
+        return ResponseEntity.ok(handler.list(ownerId, page, size, search, sortBy, sortDesc, unit, withTotal));
+    }
+
+    /**
+     * Keyset-paginated list for large catalogs. Pass the previous page's
+     * {@code nextCursor} to continue; a cursor only works with the sort it was issued for.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiGenericResponse<CursorPageResponse<IngredientListResponse>>> listAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "false") boolean sortDesc,
             @RequestParam(required = false) List<String> unit) {
         UUID ownerId = SecurityUtils.getAuthenticatedUserId();
-        return ResponseEntity.ok(handler.list(ownerId, page, size, search, sortBy, sortDesc, unit));
+        return ResponseEntity.ok(handler.listAfter(ownerId, cursor, size, search, sortBy, sortDesc, unit));
+    }
+
+    /**
+     * Full catalog download, streamed from the database as it is read. CSV by default,
+     * NDJSON with {@code Accept: application/x-ndjson}. Same search and unit filters as the list.
+     * Only on plans with advanced reporting.
+     */
+    @RequiresFeature(PlanFeature.ADVANCED_REPORTING)
+    @GetMapping(value = "/export", produces = { CSV, NDJSON })
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = CSV) String accept,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<String> unit) {
+        UUID ownerId = SecurityUtils.getAuthenticatedUserId();
+        boolean ndjson = MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        StreamingResponseBody body = output -> handler.export(ownerId, search, unit, ndjson, output);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.parseMediaType(CSV))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"ingredients." + (ndjson ? "ndjson" : "csv") + "\"")
+                .body(body);
     }
 
     @GetMapping("/{ingredientId}")
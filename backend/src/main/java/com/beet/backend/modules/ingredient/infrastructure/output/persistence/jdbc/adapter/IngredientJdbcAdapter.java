@@ -1,25 +1,33 @@
 package com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.adapter;
 
 import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
 import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
 import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
 import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
 import com.beet.backend.modules.ingredient.domain.spi.IngredientPersistencePort;
-import com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.mapper.IngredientAggregateMapper;
 import com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.repository.MasterIngredientJdbcRepository;
-import com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.repository.SupplierItemJdbcRepository;
+import com.beet.backend.shared.domain.exception.InvalidCursorException;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
 import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
+import com.beet.backend.shared.infrastructure.persistence.SeekCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -27,8 +35,6 @@ public class IngredientJdbcAdapter implements IngredientPersistencePort {
 
         // ── Write repositories ────────────────────────────────────────────────────
         private final MasterIngredientJdbcRepository ingredientRepository;
-        private final SupplierItemJdbcRepository supplierItemRepository;
-        private final IngredientAggregateMapper mapper;
         private final JdbcTemplate jdbcTemplate;
         private final JdbcClient jdbcClient;
 
@@ -40,34 +46,127 @@ public class IngredientJdbcAdapter implements IngredientPersistencePort {
                         "currentStock", "LOWER(mi.name)" // fallback until ingredient_stocks exists
         );
 
+        // ── Accent/case-insensitive search: must match the GIN trigram index expression ──
+        private static final String SEARCH_NAME = "immutable_unaccent(lower(mi.name))";
+        private static final String SEARCH_TERM = "immutable_unaccent(lower(:search))";
+        private static final String RELEVANCE_SORT = "relevance";
+
+        // ── Keyset sort columns: expression, whether it can be NULL, whether it is numeric ──
+        private static final String DEFAULT_KEYSET_SORT = "name";
+        private static final Map<String, SeekColumn> KEYSET_COLUMNS = Map.of(
+                        "name", new SeekColumn("LOWER(mi.name)", false, false),
+                        "costPerBaseUnit", new SeekColumn("si.last_cost_base", true, true),
+                        "unitAbbreviation", new SeekColumn("u.abbreviation", false, false));
+
+        // ── Export: rows pulled per round trip from the server-side cursor ──────────
+        private static final int EXPORT_FETCH_SIZE = 1000;
+
         // ═════════════════════════════════════════════════════════════════════════
         // Write Operations
         // ═════════════════════════════════════════════════════════════════════════
 
         @Override
-        public MasterIngredientDomain saveMasterIngredient(MasterIngredientDomain ingredient) {
-                var saved = ingredientRepository.save(mapper.toAggregate(ingredient));
-                return mapper.toDomain(saved);
+        public MasterIngredientDomain saveWithActiveItem(MasterIngredientDomain ingredient,
+                        SupplierItemDomain supplierItem) {
+                // One data-modifying CTE instead of INSERT + INSERT + UPDATE. Ids are generated
+                // here so the ingredient can point at its item up front; the circular
+                // fk_mi_active_supplier_item is checked at the end of the statement, when both
+                // rows exist.
+                UUID ingredientId = UUID.randomUUID();
+                UUID supplierItemId = UUID.randomUUID();
+                jdbcClient.sql("""
+                                WITH mi AS (
+                                    INSERT INTO master_ingredients (id, owner_id, name, base_unit_id,
+                                                                    active_supplier_item_id, created_by, updated_by)
+                                    VALUES (:ingredientId, :ownerId, :name, :baseUnitId, :supplierItemId, :ownerId, :ownerId)
+                                    RETURNING id
+                                )
+                                INSERT INTO supplier_items (id, master_ingredient_id, supplier_id, brand_name,
+                                                            purchase_unit_name, conversion_factor, last_cost_base,
+                                                            created_by, updated_by)
+                                SELECT :supplierItemId, mi.id, :supplierId, :brandName,
+                                       :purchaseUnitName, :conversionFactor, :lastCostBase, :ownerId, :ownerId
+                                FROM mi
+                                """)
+                                .param("ingredientId", ingredientId)
+                                .param("supplierItemId", supplierItemId)
+                                .param("ownerId", ingredient.getOwnerId())
+                                .param("name", ingredient.getName())
+                                .param("baseUnitId", ingredient.getBaseUnitId())
+                                .param("supplierId", supplierItem.getSupplierId())
+                                .param("brandName", supplierItem.getBrandName())
+                                .param("purchaseUnitName", supplierItem.getPurchaseUnitName())
+                                .param("conversionFactor", supplierItem.getConversionFactor())
+                                .param("lastCostBase", supplierItem.getLastCostBase())
+                                .update();
+
+                supplierItem.setId(supplierItemId);
+                supplierItem.setMasterIngredientId(ingredientId);
+                return ingredient.toBuilder()
+                                .id(ingredientId)
+                                .activeSupplierItemId(supplierItemId)
+                                .build();
         }
 
         @Override
-        public SupplierItemDomain saveSupplierItem(SupplierItemDomain supplierItem) {
-                var saved = supplierItemRepository.save(mapper.toAggregate(supplierItem));
-                return mapper.toDomain(saved);
+        public boolean existsByNameAndOwnerId(String name, UUID ownerId) {
+                return ingredientRepository.existsByNameAndOwnerId(name, ownerId);
         }
 
         @Override
-        public void updateActiveSupplierItem(UUID masterIngredientId, UUID supplierItemId) {
-                // Direct UPDATE to avoid loading the full aggregate (avoids circular dependency
-                // issues with Spring Data JDBC)
-                jdbcTemplate.update(
-                                "UPDATE master_ingredients SET active_supplier_item_id = ? WHERE id = ?",
-                                supplierItemId, masterIngredientId);
+        public Set<String> findExistingNames(UUID ownerId, Collection<String> names) {
+                if (names.isEmpty()) {
+                        return Set.of();
+                }
+                // Same match as existsByNameAndOwnerId, for a whole batch in one round trip
+                return new HashSet<>(jdbcClient.sql(
+                                "SELECT name FROM master_ingredients WHERE owner_id = :ownerId AND name IN (:names)")
+                                .param("ownerId", ownerId)
+                                .param("names", names)
+                                .query(String.class)
+                                .list());
         }
 
         @Override
-        public boolean existsByNameAndOwnerId(String name, UUID ownerId) {
-                return ingredientRepository.existsByNameAndOwnerId(name, ownerId);
+        public void saveAllWithActiveItems(List<MasterIngredientDomain> ingredients, List<SupplierItemDomain> supplierItems) {
+                if (ingredients.isEmpty()) {
+                        return;
+                }
+                // Two batched statements instead of round trips per row. Ingredients are inserted
+                // already pointing at their active item, so fk_mi_active_supplier_item is
+                // deferred (V12) only while the items follow, then checked right away.
+                jdbcTemplate.execute("SET CONSTRAINTS fk_mi_active_supplier_item DEFERRED");
+                jdbcTemplate.batchUpdate(
+                                "INSERT INTO master_ingredients (id, owner_id, name, base_unit_id, "
+                                                + "active_supplier_item_id, created_by, updated_by) "
+                                                + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                                ingredients, ingredients.size(), (ps, mi) -> {
+                                        ps.setObject(1, mi.getId());
+                                        ps.setObject(2, mi.getOwnerId());
+                                        ps.setString(3, mi.getName());
+                                        ps.setObject(4, mi.getBaseUnitId());
+                                        ps.setObject(5, mi.getActiveSupplierItemId());
+                                        ps.setObject(6, mi.getOwnerId());
+                                        ps.setObject(7, mi.getOwnerId());
+                                });
+
+                UUID auditor = ingredients.get(0).getOwnerId();
+                jdbcTemplate.batchUpdate(
+                                "INSERT INTO supplier_items (id, master_ingredient_id, supplier_id, brand_name, "
+                                                + "purchase_unit_name, conversion_factor, last_cost_base, created_by, updated_by) "
+                                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                supplierItems, supplierItems.size(), (ps, si) -> {
+                                        ps.setObject(1, si.getId());
+                                        ps.setObject(2, si.getMasterIngredientId());
+                                        ps.setObject(3, si.getSupplierId());
+                                        ps.setString(4, si.getBrandName());
+                                        ps.setString(5, si.getPurchaseUnitName());
+                                        ps.setBigDecimal(6, si.getConversionFactor());
+                                        ps.setBigDecimal(7, si.getLastCostBase());
+                                        ps.setObject(8, auditor);
+                                        ps.setObject(9, auditor);
+                                });
+                jdbcTemplate.execute("SET CONSTRAINTS fk_mi_active_supplier_item IMMEDIATE");
         }
 
         // ═════════════════════════════════════════════════════════════════════════
@@ -77,13 +176,14 @@ public class IngredientJdbcAdapter implements IngredientPersistencePort {
         @Override
         public PageResponse<IngredientListResponse> findAllByOwnerId(
                         UUID ownerId, int page, int size,
-                        String search, String sortBy, boolean sortDesc, List<String> units) {
+                        String search, String sortBy, boolean sortDesc, List<String> units,
+                        boolean withTotal) {
 
                 // 1. DYNAMIC SORTING (SECURITY): We map the frontend's sort key to the actual
                 // DB column using an allowlist.
                 // This completely prevents SQL Injection, because we never concatenate user
                 // input directly into the ORDER BY clause.
-                String orderColumn = SORT_COLUMNS.getOrDefault(sortBy, "mi.name");
+                String orderColumn = sortBy != null ? SORT_COLUMNS.getOrDefault(sortBy, "mi.name") : "LOWER(mi.name)";
                 String orderDir = sortDesc ? "DESC" : "ASC";
 
                 // Handle NULL sort on cost (so ingredients without a supplier/cost go to the
@@ -92,44 +192,14 @@ public class IngredientJdbcAdapter implements IngredientPersistencePort {
                                 ? orderColumn + " " + orderDir + " NULLS LAST"
                                 : orderColumn + " " + orderDir;
 
+                // A search without an explicit sort is ranked by relevance: closest trigram
+                // match of the term within the name first, then alphabetically.
                 boolean hasSearch = search != null && !search.isBlank();
-                boolean hasUnits = units != null && !units.isEmpty();
-
-                // 2. REUSABLE WHERE CLAUSE: For server-side pagination, we always need TWO
-                // queries:
-                // a) One to fetch the actual paginated data rows.
-                // b) One to count the TOTAL matching rows (so the frontend knows how many pages
-                // exist).
-                // We use a StringBuilder to dynamically append filters ONLY if they exist.
-                // This avoids PostgreSQL driver errors regarding type inference on 'IS NULL'
-                // checks and array expansions.
-                StringBuilder baseWhere = new StringBuilder("""
-                                FROM master_ingredients mi
-                                JOIN units u ON mi.base_unit_id = u.id
-                                LEFT JOIN supplier_items si ON mi.active_supplier_item_id = si.id
-                                WHERE mi.owner_id = :ownerId
-                                  AND mi.deleted_at IS NULL
-                                """);
-
-                if (hasSearch) {
-                        baseWhere.append("  AND mi.name ILIKE '%' || :search || '%'\n");
+                if (hasSearch && (sortBy == null || RELEVANCE_SORT.equals(sortBy))) {
+                        orderClause = "word_similarity(" + SEARCH_TERM + ", " + SEARCH_NAME + ") DESC, LOWER(mi.name)";
                 }
 
-                if (hasUnits) {
-                        // Spring JdbcClient automatically expands IN (:units) into IN (?, ?, ?) when
-                        // passing a List
-                        baseWhere.append("  AND u.abbreviation IN (:units)\n");
-                }
-
-                String selectSql = "SELECT mi.id, mi.name, u.abbreviation AS unit_abbreviation, "
-                                + "si.last_cost_base AS cost_per_base_unit "
-                                + baseWhere.toString()
-                                + " ORDER BY " + orderClause
-                                + " LIMIT :size OFFSET :offset";
-
-                String countSql = "SELECT COUNT(*) " + baseWhere.toString();
-
-                // 3. SECURE PARAMETER BINDING
+                // 2. SECURE PARAMETER BINDING
                 // We build the parameters map using Map.of or put(), because JdbcClient
                 // requires a Map for named arguments, not a MapSqlParameterSource
                 // (unless using .paramSource()).
@@ -138,39 +208,133 @@ public class IngredientJdbcAdapter implements IngredientPersistencePort {
                 paramMap.put("size", size);
                 paramMap.put("offset", (long) page * size);
 
-                if (hasSearch) {
-                        paramMap.put("search", search);
-                }
-                if (hasUnits) {
-                        paramMap.put("units", units);
+                // 3. REUSABLE WHERE CLAUSE: the page and its total come from ONE statement.
+                // COUNT(*) OVER() is evaluated over the whole filtered set before LIMIT, so
+                // every returned row carries the total. Without a total we fetch one extra
+                // row instead, which is enough to know whether a next page exists.
+                String baseWhere = baseFilter(search, units, paramMap);
+                if (!withTotal) {
+                        paramMap.put("size", size + 1);
                 }
 
-                // 4. JDBC CLIENT - COUNT QUERY
-                Long totalElements = jdbcClient.sql(countSql)
-                                .params(paramMap)
-                                .query(Long.class)
-                                .single();
-                if (totalElements == null)
-                        totalElements = 0L;
+                String selectSql = "SELECT mi.id, mi.name, u.abbreviation AS unit_abbreviation, "
+                                + "si.last_cost_base AS cost_per_base_unit"
+                                + (withTotal ? ", COUNT(*) OVER() AS total_elements " : " ")
+                                + baseWhere
+                                + " ORDER BY " + orderClause + ", mi.id"
+                                + " LIMIT :size OFFSET :offset";
 
-                // 5. JDBC CLIENT - FETCH QUERY: We pass the SELECT SQL, inject the parameters,
+                // 4. JDBC CLIENT - FETCH QUERY: We pass the SELECT SQL, inject the parameters,
                 // and provide a RowMapper block. For every row returned by the database (rs),
                 // we manually construct
                 // our flat List DTO. Finally, .list() executes the query and gathers the
                 // results into a List.
-                List<IngredientListResponse> content = jdbcClient.sql(selectSql)
+                List<CountedRow> rows = jdbcClient.sql(selectSql)
                                 .params(paramMap)
-                                .query((rs, rowNum) -> new IngredientListResponse(
-                                                UUID.fromString(rs.getString("id")),
-                                                rs.getString("name"),
-                                                rs.getString("unit_abbreviation"),
-                                                rs.getBigDecimal("cost_per_base_unit") // may be null if no supplier
-                                ))
+                                .query((rs, rowNum) -> new CountedRow(
+                                                new IngredientListResponse(
+                                                                UUID.fromString(rs.getString("id")),
+                                                                rs.getString("name"),
+                                                                rs.getString("unit_abbreviation"),
+                                                                rs.getBigDecimal("cost_per_base_unit")), // may be null if no supplier
+                                                withTotal ? rs.getLong("total_elements") : -1L))
                                 .list();
+                List<IngredientListResponse> content = rows.stream().map(CountedRow::item).toList();
+
+                if (!withTotal) {
+                        boolean hasNext = content.size() > size;
+                        return PageResponse.withoutTotal(hasNext ? content.subList(0, size) : content, page, size,
+                                        hasNext);
+                }
+
+                // 5. PAST THE LAST PAGE: no row came back to carry the total, so only this
+                // (rare) case pays for a separate COUNT.
+                long totalElements = rows.isEmpty() ? 0L : rows.get(0).total();
+                if (rows.isEmpty() && page > 0) {
+                        Long counted = jdbcClient.sql("SELECT COUNT(*) " + baseWhere)
+                                        .params(paramMap)
+                                        .query(Long.class)
+                                        .single();
+                        totalElements = counted != null ? counted : 0L;
+                }
 
                 return PageResponse.of(content, totalElements, page, size);
         }
 
+        @Override
+        public CursorPageResponse<IngredientListResponse> findAllByOwnerIdAfter(
+                        UUID ownerId, String cursor, int size,
+                        String search, String sortBy, boolean sortDesc, List<String> units) {
+
+                // 1. KEYSET SORT: same allowlist idea as the page-number list, but the order must
+                // be total, so the id breaks ties in the same direction as the sort value.
+                String sortKey = sortBy != null && KEYSET_COLUMNS.containsKey(sortBy) ? sortBy : DEFAULT_KEYSET_SORT;
+                SeekColumn column = KEYSET_COLUMNS.get(sortKey);
+                String orderDir = sortDesc ? "DESC" : "ASC";
+                // Only a nullable column needs NULLS LAST; leaving it off elsewhere keeps DESC
+                // pages able to walk the index backwards.
+                String nulls = column.nullable() ? " NULLS LAST" : "";
+
+                Map<String, Object> paramMap = new HashMap<>();
+                paramMap.put("ownerId", ownerId);
+                paramMap.put("limit", size + 1); // one extra row tells us whether there is a next page
+
+                StringBuilder sql = new StringBuilder("SELECT mi.id, mi.name, u.abbreviation AS unit_abbreviation, "
+                                + "si.last_cost_base AS cost_per_base_unit, "
+                                + column.expression() + "::text AS sort_value\n");
+                sql.append(baseFilter(search, units, paramMap));
+
+                // 2. SEEK PREDICATE: continue strictly after the last row of the previous page,
+                // instead of counting past OFFSET rows. Rows without a value sort last.
+                if (cursor != null && !cursor.isBlank()) {
+                        SeekCursor after = SeekCursor.decode(cursor).requireSort(sortKey, sortDesc);
+                        String cmp = sortDesc ? "<" : ">";
+                        paramMap.put("seekId", after.id());
+                        if (after.value() == null) {
+                                sql.append("  AND ").append(column.expression()).append(" IS NULL AND mi.id ")
+                                                .append(cmp).append(" :seekId\n");
+                        } else {
+                                paramMap.put("seekValue", column.bind(after.value()));
+                                if (column.nullable()) {
+                                        sql.append("  AND (").append(column.expression()).append(' ').append(cmp)
+                                                        .append(" :seekValue OR (").append(column.expression())
+                                                        .append(" = :seekValue AND mi.id ").append(cmp)
+                                                        .append(" :seekId) OR ").append(column.expression())
+                                                        .append(" IS NULL)\n");
+                                } else {
+                                        // Row comparison lets PostgreSQL seek the (sort value, id) index directly
+                                        sql.append("  AND (").append(column.expression()).append(", mi.id) ")
+                                                        .append(cmp).append(" (:seekValue, :seekId)\n");
+                                }
+                        }
+                }
+
+                sql.append(" ORDER BY ").append(column.expression()).append(' ').append(orderDir).append(nulls)
+                                .append(", mi.id ").append(orderDir)
+                                .append(" LIMIT :limit");
+
+                // 3. FETCH: no COUNT query in cursor mode
+                List<SeekRow> rows = jdbcClient.sql(sql.toString())
+                                .params(paramMap)
+                                .query((rs, rowNum) -> new SeekRow(
+                                                new IngredientListResponse(
+                                                                UUID.fromString(rs.getString("id")),
+                                                                rs.getString("name"),
+                                                                rs.getString("unit_abbreviation"),
+                                                                rs.getBigDecimal("cost_per_base_unit")),
+                                                rs.getString("sort_value")))
+                                .list();
+
+                boolean hasNext = rows.size() > size;
+                List<SeekRow> page = hasNext ? rows.subList(0, size) : rows;
+                String nextCursor = null;
+                if (hasNext) {
+                        SeekRow last = page.get(page.size() - 1);
+                        nextCursor = new SeekCursor(sortKey, sortDesc, last.item().id(), last.sortValue()).encode();
+                }
+                return CursorPageResponse.of(page.stream().map(SeekRow::item).toList(), size, nextCursor);
+        }
+
         @Override
         public Optional<IngredientDetailResponse> findDetailById(UUID id, UUID ownerId) {
                 // 1. RAW SQL PROJECTION: We select exactly what the frontend needs across 3
@@ -238,4 +402,90 @@ public class IngredientJdbcAdapter implements IngredientPersistencePort {
                                 })
                                 .optional();
         }
+
+        @Override
+        public void streamAllByOwnerId(UUID ownerId, String search, List<String> units,
+                        Consumer<IngredientExportRow> sink) {
+                // Same joins and filters as the list, plus the supplier from the detail view.
+                // With auto-commit off (caller's transaction) and a fetch size, PostgreSQL
+                // reads through a portal EXPORT_FETCH_SIZE rows at a time, so heap stays
+                // flat no matter how big the catalog is.
+                Map<String, Object> paramMap = new HashMap<>();
+                paramMap.put("ownerId", ownerId);
+                String sql = "SELECT mi.id, mi.name, u.abbreviation AS unit_abbreviation, "
+                                + "si.last_cost_base, si.brand_name, si.purchase_unit_name, si.conversion_factor, "
+                                + "sup.id AS supplier_id, sup.name AS supplier_name "
+                                + baseFilter(search, units, paramMap, "LEFT JOIN suppliers sup ON si.supplier_id = sup.id\n")
+                                + "ORDER BY LOWER(mi.name), mi.id";
+
+                JdbcTemplate cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+                cursorTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+                new NamedParameterJdbcTemplate(cursorTemplate).query(sql, paramMap, rs -> {
+                        String supplierId = rs.getString("supplier_id");
+                        sink.accept(new IngredientExportRow(
+                                        UUID.fromString(rs.getString("id")),
+                                        rs.getString("name"),
+                                        rs.getString("unit_abbreviation"),
+                                        rs.getBigDecimal("last_cost_base"),
+                                        supplierId != null ? UUID.fromString(supplierId) : null,
+                                        rs.getString("supplier_name"),
+                                        rs.getString("brand_name"),
+                                        rs.getString("purchase_unit_name"),
+                                        rs.getBigDecimal("conversion_factor")));
+                });
+        }
+
+        /**
+         * FROM/WHERE shared by the list queries, binding only the filters that are present.
+         */
+        private static String baseFilter(String search, List<String> units, Map<String, Object> paramMap) {
+                return baseFilter(search, units, paramMap, "");
+        }
+
+        private static String baseFilter(String search, List<String> units, Map<String, Object> paramMap,
+                        String extraJoins) {
+                // We use a StringBuilder to dynamically append filters ONLY if they exist.
+                // This avoids PostgreSQL driver errors regarding type inference on 'IS NULL'
+                // checks and array expansions.
+                StringBuilder baseWhere = new StringBuilder("""
+                                FROM master_ingredients mi
+                                JOIN units u ON mi.base_unit_id = u.id
+                                LEFT JOIN supplier_items si ON mi.active_supplier_item_id = si.id
+                                """ + extraJoins + """
+                                WHERE mi.owner_id = :ownerId
+                                  AND mi.deleted_at IS NULL
+                                """);
+
+                if (search != null && !search.isBlank()) {
+                        // Both sides lower-cased and unaccented ("azucar" finds "Azúcar"); the
+                        // leading wildcard is served by the trigram index, not a scan.
+                        baseWhere.append("  AND " + SEARCH_NAME + " LIKE '%' || " + SEARCH_TERM + " || '%'\n");
+                        paramMap.put("search", search);
+                }
+
+                if (units != null && !units.isEmpty()) {
+                        // Spring JdbcClient automatically expands IN (:units) into IN (?, ?, ?) when
+                        // passing a List
+                        baseWhere.append("  AND u.abbreviation IN (:units)\n");
+                        paramMap.put("units", units);
+                }
+                return baseWhere.toString();
+        }
+
+        private record SeekColumn(String expression, boolean nullable, boolean numeric) {
+
+                Object bind(String value) {
+                        try {
+                                return numeric ? new BigDecimal(value) : value;
+                        } catch (NumberFormatException e) {
+                                throw InvalidCursorException.malformed();
+                        }
+                }
+        }
+
+        private record SeekRow(IngredientListResponse item, String sortValue) {
+        }
+
+        private record CountedRow(IngredientListResponse item, long total) {
+        }
 }
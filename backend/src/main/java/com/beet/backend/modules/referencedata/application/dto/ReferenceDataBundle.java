@@ -0,0 +1,10 @@
+package com.beet.backend.modules.referencedata.application.dto;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * The serialized reference data and its ETag value (hex SHA-256 of the payload).
+ * The payload is serialized once and embedded as-is in each response envelope.
+ */
+public record ReferenceDataBundle(RawValue payload, String etag) {
+}
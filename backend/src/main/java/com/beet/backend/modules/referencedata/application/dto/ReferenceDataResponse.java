@@ -0,0 +1,18 @@
+package com.beet.backend.modules.referencedata.application.dto;
+
+import com.beet.backend.modules.documenttype.application.dto.DocumentTypeResponse;
+import com.beet.backend.modules.subscription.application.dto.SubscriptionPlanResponse;
+import com.beet.backend.modules.unit.application.dto.UnitResponse;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Everything the frontend needs from the seed tables, in one payload.
+ * Document types are keyed by country code in alphabetical order.
+ */
+public record ReferenceDataResponse(
+        List<UnitResponse> units,
+        SortedMap<String, List<DocumentTypeResponse>> documentTypesByCountry,
+        List<SubscriptionPlanResponse> subscriptionPlans) {
+}
@@ -0,0 +1,7 @@
+package com.beet.backend.modules.referencedata.application.handler;
+
+import com.beet.backend.modules.referencedata.application.dto.ReferenceDataBundle;
+
+public interface ReferenceDataHandler {
+    ReferenceDataBundle getBundle();
+}
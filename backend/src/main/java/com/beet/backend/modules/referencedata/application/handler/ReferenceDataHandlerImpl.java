@@ -0,0 +1,92 @@
+package com.beet.backend.modules.referencedata.application.handler;
+
+import com.beet.backend.modules.documenttype.application.dto.DocumentTypeResponse;
+import com.beet.backend.modules.documenttype.application.mapper.DocumentTypeServiceMapper;
+import com.beet.backend.modules.documenttype.domain.api.DocumentTypeServicePort;
+import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
+import com.beet.backend.modules.referencedata.application.dto.ReferenceDataBundle;
+import com.beet.backend.modules.referencedata.application.dto.ReferenceDataResponse;
+import com.beet.backend.modules.subscription.application.mapper.SubscriptionMapper;
+import com.beet.backend.modules.subscription.domain.api.GetSubscriptionPlansServicePort;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
+import com.beet.backend.modules.unit.application.mapper.UnitServiceMapper;
+import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.modules.unit.domain.model.UnitDomain;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the reference-data bundle from the unit registry, the document type snapshot
+ * and the plan catalog, all of which are in memory. The bundle is cached and rebuilt
+ * only when one of those snapshots is replaced by a reload, which is detected by
+ * reference: each catalog hands out the same immutable collection until it reloads.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataHandlerImpl implements ReferenceDataHandler {
+
+    private final UnitServicePort unitServicePort;
+    private final UnitServiceMapper unitMapper;
+    private final DocumentTypeServicePort documentTypeServicePort;
+    private final DocumentTypeServiceMapper documentTypeMapper;
+    private final GetSubscriptionPlansServicePort subscriptionPlansServicePort;
+    private final SubscriptionMapper subscriptionMapper;
+    private final ObjectMapper objectMapper;
+
+    private volatile Cached cached;
+
+    @Override
+    public ReferenceDataBundle getBundle() {
+        List<UnitDomain> units = unitServicePort.getAllUnits();
+        Map<String, List<DocumentTypeDomain>> documentTypes = documentTypeServicePort.getAllByCountry();
+        List<SubscriptionPlan> plans = subscriptionPlansServicePort.getPlans();
+
+        Cached current = cached;
+        if (current == null || !current.isBuiltFrom(units, documentTypes, plans)) {
+            current = new Cached(units, documentTypes, plans, build(units, documentTypes, plans));
+            cached = current;
+        }
+        return current.bundle();
+    }
+
+    private ReferenceDataBundle build(List<UnitDomain> units,
+            Map<String, List<DocumentTypeDomain>> documentTypes, List<SubscriptionPlan> plans) {
+        TreeMap<String, List<DocumentTypeResponse>> documentTypesByCountry = new TreeMap<>();
+        documentTypes.forEach((countryCode, types) ->
+                documentTypesByCountry.put(countryCode, types.stream().map(documentTypeMapper::toResponse).toList()));
+
+        ReferenceDataResponse payload = new ReferenceDataResponse(
+                units.stream().map(unitMapper::toResponse).toList(),
+                documentTypesByCountry,
+                plans.stream().map(subscriptionMapper::toResponse).toList());
+
+        try {
+            // The ETag hashes the payload only, so every instance serving the same seed data agrees on it
+            byte[] json = objectMapper.writeValueAsBytes(payload);
+            String etag = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+            return new ReferenceDataBundle(new RawValue(new String(json, StandardCharsets.UTF_8)), etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not build the reference data bundle", ex);
+        }
+    }
+
+    private record Cached(List<UnitDomain> units, Map<String, List<DocumentTypeDomain>> documentTypes,
+            List<SubscriptionPlan> plans, ReferenceDataBundle bundle) {
+
+        boolean isBuiltFrom(List<UnitDomain> units, Map<String, List<DocumentTypeDomain>> documentTypes,
+                List<SubscriptionPlan> plans) {
+            return this.units == units && this.documentTypes == documentTypes && this.plans == plans;
+        }
+    }
+}
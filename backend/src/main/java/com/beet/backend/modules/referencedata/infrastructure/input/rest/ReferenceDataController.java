@@ -0,0 +1,45 @@
+package com.beet.backend.modules.referencedata.infrastructure.input.rest;
+
+import com.beet.backend.modules.referencedata.application.dto.ReferenceDataBundle;
+import com.beet.backend.modules.referencedata.application.handler.ReferenceDataHandler;
+import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/reference-data")
+public class ReferenceDataController {
+
+    private final ReferenceDataHandler handler;
+    private final CacheControl cacheControl;
+
+    public ReferenceDataController(
+            ReferenceDataHandler handler,
+            @Value("${application.reference-data.max-age:1d}") Duration maxAge) {
+        this.handler = handler;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * GET /reference-data — units, document types by country and subscription plans in
+     * one cached payload. A request whose If-None-Match carries the current ETag gets a
+     * 304 with no body (Spring compares it when the response has an ETag).
+     * The ETag is weak: it covers the payload, while the envelope's timestamp changes
+     * on every response, so equal tags do not mean byte-identical bodies.
+     */
+    @GetMapping
+    public ResponseEntity<ApiGenericResponse<RawValue>> getReferenceData() {
+        ReferenceDataBundle bundle = handler.getBundle();
+        return ResponseEntity.ok()
+                .eTag("W/\"" + bundle.etag() + "\"")
+                .cacheControl(cacheControl)
+                .body(ApiGenericResponse.success(bundle.payload()));
+    }
+}
@@ -16,5 +16,7 @@ public record RestaurantResponse(
                 Boolean isActive,
                 UUID ownerId,
                 RestaurantSettings settings,
-                String role) {
+                String role,
+                UUID roleId,
+                Long version) {
 }
@@ -9,5 +9,6 @@ public record RestaurantUpdateRequest(
         String phoneNumber,
         String operationMode,
         Boolean isActive,
-        RestaurantSettings settings) {
+        RestaurantSettings settings,
+        Long version) { // Optional: when sent, a stale version is rejected with 409
 }
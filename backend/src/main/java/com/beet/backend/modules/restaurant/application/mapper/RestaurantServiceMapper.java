@@ -38,6 +38,7 @@ public class RestaurantServiceMapper {
                 .isActive(domain.getIsActive())
                 .ownerId(domain.getOwnerId())
                 .settings(domain.getSettings()) // Pass through
+                .version(domain.getVersion())
                 .build();
     }
 
@@ -50,6 +51,8 @@ public class RestaurantServiceMapper {
                 .ownerId(dto.ownerId())
                 .settings(dto.settings())
                 .role(dto.roleName())
+                .roleId(dto.roleId())
+                .version(dto.version())
                 .build();
     }
 
@@ -63,9 +66,10 @@ public class RestaurantServiceMapper {
                 .address(request.address())
                 .email(request.email())
                 .phoneNumber(request.phoneNumber())
-                .operationMode(OperationMode.valueOf(request.operationMode()))
+                .operationMode(request.operationMode() != null ? OperationMode.valueOf(request.operationMode()) : null)
                 .isActive(request.isActive())
                 .settings(request.settings())
+                .version(request.version())
                 .build();
     }
 }
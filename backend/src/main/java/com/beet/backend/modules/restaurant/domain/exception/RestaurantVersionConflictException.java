@@ -0,0 +1,18 @@
+package com.beet.backend.modules.restaurant.domain.exception;
+
+import com.beet.backend.shared.domain.exception.ResourceVersionConflictException;
+
+import java.util.UUID;
+
+public class RestaurantVersionConflictException extends ResourceVersionConflictException {
+
+    private static final String STALE_VERSION_TEMPLATE = "Restaurant %s was modified by someone else (current version %d)";
+
+    private RestaurantVersionConflictException(String message) {
+        super(message);
+    }
+
+    public static RestaurantVersionConflictException forId(UUID id, Long currentVersion) {
+        return new RestaurantVersionConflictException(String.format(STALE_VERSION_TEMPLATE, id, currentVersion));
+    }
+}
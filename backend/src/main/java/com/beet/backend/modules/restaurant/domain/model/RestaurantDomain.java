@@ -20,4 +20,5 @@ public class RestaurantDomain {
     private Boolean isActive;
     private UUID ownerId;
     private RestaurantSettings settings;
+    private Long version;
 }
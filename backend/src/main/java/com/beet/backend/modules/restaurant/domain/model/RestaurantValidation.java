@@ -0,0 +1,18 @@
+package com.beet.backend.modules.restaurant.domain.model;
+
+/**
+ * Everything create/update must check before writing a restaurant, read in one query:
+ * the owner's plan limit, the owner's restaurants_used counter, and which of the
+ * per-owner unique fields are already taken by another restaurant.
+ */
+public record RestaurantValidation(
+        int maxRestaurants,
+        int restaurantsUsed,
+        boolean nameTaken,
+        boolean addressTaken,
+        boolean phoneNumberTaken) {
+
+    public boolean limitReached() {
+        return restaurantsUsed >= maxRestaurants;
+    }
+}
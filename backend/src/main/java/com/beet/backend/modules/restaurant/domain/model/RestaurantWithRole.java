@@ -11,5 +11,7 @@ public record RestaurantWithRole(
         Boolean isActive,
         UUID ownerId,
         RestaurantSettings settings,
-        String roleName) {
+        String roleName,
+        UUID roleId,
+        Long version) {
 }
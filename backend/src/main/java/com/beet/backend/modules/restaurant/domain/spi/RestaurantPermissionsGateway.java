@@ -6,4 +6,10 @@ import java.util.UUID;
 
 public interface RestaurantPermissionsGateway {
     UserRestaurantPermissions getMyPermissionsForRestaurant(UUID restaurantId, UUID userId);
+
+    /**
+     * Drops any cached permissions of the user in the restaurant, so the next
+     * read reflects a role that was just assigned or changed.
+     */
+    void evict(UUID restaurantId, UUID userId);
 }
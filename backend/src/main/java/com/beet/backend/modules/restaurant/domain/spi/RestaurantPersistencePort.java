@@ -1,6 +1,8 @@
 package com.beet.backend.modules.restaurant.domain.spi;
 
 import com.beet.backend.modules.restaurant.domain.model.RestaurantDomain;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantValidation;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantWithRole;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +11,12 @@ import java.util.UUID;
 public interface RestaurantPersistencePort {
     RestaurantDomain save(RestaurantDomain domain);
 
+    /**
+     * Writes the non-null fields of {@code domain} to the owner's restaurant in one statement.
+     * Empty when no row matched: missing, another owner's, a unique-field conflict or a stale version.
+     */
+    Optional<RestaurantDomain> update(RestaurantDomain domain);
+
     Optional<RestaurantDomain> findById(UUID id);
 
     boolean existsById(UUID id);
@@ -17,6 +25,11 @@ public interface RestaurantPersistencePort {
 
     List<RestaurantDomain> findAllById(List<UUID> ids);
 
+    /**
+     * Restaurants the user holds a role in, each with that role, read in one query.
+     */
+    List<RestaurantWithRole> findAllWithRoleByUserId(UUID userId);
+
     int countByOwnerId(UUID ownerId);
 
     boolean existsByNameAndOwnerId(String name, UUID ownerId);
@@ -25,4 +38,10 @@ public interface RestaurantPersistencePort {
 
     boolean existsByPhoneNumberAndOwnerId(String phoneNumber, UUID ownerId);
 
+    /**
+     * Reads the owner's plan limit, restaurant count and unique-field conflicts in one query.
+     * Null values are not checked; {@code excludeId} skips the restaurant being updated.
+     */
+    RestaurantValidation validate(UUID ownerId, String name, String address, String phoneNumber, UUID excludeId);
+
 }
@@ -3,5 +3,13 @@ package com.beet.backend.modules.restaurant.domain.spi;
 import java.util.UUID;
 
 public interface RestaurantSubscriptionGateway {
-    int getMaxRestaurantsAllowed(UUID ownerId);
+
+    /**
+     * Reserves one restaurant of the owner's plan limit, in the caller's transaction.
+     *
+     * @return false when the limit is reached
+     */
+    boolean reserveRestaurant(UUID ownerId);
+
+    void releaseRestaurant(UUID ownerId);
 }
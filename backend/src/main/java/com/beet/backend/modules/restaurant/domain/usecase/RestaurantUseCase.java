@@ -4,13 +4,16 @@ import com.beet.backend.modules.restaurant.domain.api.RestaurantServicePort;
 import com.beet.backend.modules.restaurant.domain.exception.RestaurantAlreadyExistsException;
 import com.beet.backend.modules.restaurant.domain.exception.RestaurantNotFoundException;
 import com.beet.backend.modules.restaurant.domain.exception.RestaurantLimitExceededException;
+import com.beet.backend.modules.restaurant.domain.exception.RestaurantVersionConflictException;
 import com.beet.backend.modules.restaurant.domain.exception.RoleAssignmentException;
 import com.beet.backend.modules.restaurant.domain.model.RestaurantDomain;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantValidation;
 import com.beet.backend.modules.restaurant.domain.spi.RestaurantPersistencePort;
-import com.beet.backend.modules.restaurant.domain.spi.RestaurantSubscriptionGateway;
 import com.beet.backend.modules.restaurant.domain.spi.RestaurantIdentityGateway;
+import com.beet.backend.modules.restaurant.domain.spi.RestaurantSubscriptionGateway;
 import com.beet.backend.modules.restaurant.domain.model.RestaurantWithRole;
 import com.beet.backend.modules.role.domain.model.UserRoleDTO;
+import com.beet.backend.shared.domain.spi.OwnerLockPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,47 +27,51 @@ import java.util.UUID;
 public class RestaurantUseCase implements RestaurantServicePort {
 
     private final RestaurantPersistencePort persistencePort;
-    private final RestaurantSubscriptionGateway subscriptionGateway;
     private final RestaurantIdentityGateway identityGateway;
+    private final RestaurantSubscriptionGateway subscriptionGateway;
+    private final OwnerLockPort ownerLockPort;
 
     @Override
     @Transactional
     public RestaurantWithRole create(RestaurantDomain domain) {
-        // 1. Check Max Restaurants Limit
-        int maxAllowed = subscriptionGateway.getMaxRestaurantsAllowed(domain.getOwnerId());
-        int currentCount = persistencePort.countByOwnerId(domain.getOwnerId());
+        // 0. Serialize creates of the same owner until commit, so the checks below can't race
+        ownerLockPort.lock(domain.getOwnerId());
 
-        if (currentCount >= maxAllowed) {
-            throw RestaurantLimitExceededException.forPlan(maxAllowed);
+        // 1. Plan limit and unique constraints per owner, read in one query
+        RestaurantValidation validation = persistencePort.validate(domain.getOwnerId(),
+                domain.getName(), domain.getAddress(), domain.getPhoneNumber(), null);
+
+        if (validation.limitReached()) {
+            throw RestaurantLimitExceededException.forPlan(validation.maxRestaurants());
         }
 
         // 2. Check Unique Constraints per Owner
-        if (persistencePort.existsByNameAndOwnerId(domain.getName(), domain.getOwnerId())) {
-            throw RestaurantAlreadyExistsException.forField("name", domain.getName());
-        }
-        if (persistencePort.existsByAddressAndOwnerId(domain.getAddress(), domain.getOwnerId())) {
-            throw RestaurantAlreadyExistsException.forField("address", domain.getAddress());
-        }
-        if (persistencePort.existsByPhoneNumberAndOwnerId(domain.getPhoneNumber(), domain.getOwnerId())) {
-            throw RestaurantAlreadyExistsException.forField("phone number", domain.getPhoneNumber());
+        checkConflicts(validation, domain);
+
+        // 3. Reserve the restaurant in the owner's usage counter, in this transaction
+        if (!subscriptionGateway.reserveRestaurant(domain.getOwnerId())) {
+            throw RestaurantLimitExceededException.forPlan(validation.maxRestaurants());
         }
 
         RestaurantDomain savedRestaurant = persistencePort.save(domain);
 
-        // 3. Assign 'Owner' Role
+        // 4. Assign 'Owner' Role
+        UUID ownerRoleId;
         try {
-            identityGateway.assignRole(savedRestaurant.getOwnerId(), savedRestaurant.getId(), "Owner");
+            ownerRoleId = identityGateway.assignRole(savedRestaurant.getOwnerId(), savedRestaurant.getId(), "Owner");
         } catch (Exception e) {
             throw RoleAssignmentException.forRole("Owner", e);
         }
-return new RestaurantWithRole(
+        return new RestaurantWithRole(
                 savedRestaurant.getId(),
                 savedRestaurant.getName(),
                 savedRestaurant.getOperationMode(),
                 savedRestaurant.getIsActive(),
                 savedRestaurant.getOwnerId(),
                 savedRestaurant.getSettings(),
-                "Owner");
+                "Owner",
+                ownerRoleId,
+                savedRestaurant.getVersion());
     }
 
     @Override
@@ -80,17 +87,12 @@ return new RestaurantWithRole(
         RestaurantDomain restaurant = persistencePort.findById(id)
                 .orElseThrow(() -> RestaurantNotFoundException.forId(id));
 
-        // 2. Fetch User Roles
-        List<UserRoleDTO> userRoles = identityGateway.getUserRoles(userId);
-
-        // 3. Find Role for this Restaurant
-        String roleName = userRoles.stream()
-                .filter(ur -> ur.restaurantId().equals(id))
-                .findFirst()
-                .map(UserRoleDTO::roleName)
+        // 2. Find Role for this Restaurant (signed token claim or single-row lookup)
+        UserRoleDTO role = identityGateway.findUserRole(userId, id)
                 .orElse(null);
+        String roleName = role != null ? role.roleName() : null;
 
-        // 4. Access Control: If role is null (no association) and not owner
+        // 3. Access Control: If role is null (no association) and not owner
         // Note: The previous logic strictly checked ownership.
         // If we want to allow employees to view it, we should check if roleName is
         // present.
@@ -115,7 +117,9 @@ return new RestaurantWithRole(
                 restaurant.getIsActive(),
                 restaurant.getOwnerId(),
                 restaurant.getSettings(),
-                roleName);
+                roleName,
+                role != null ? role.roleId() : null,
+                restaurant.getVersion());
     }
 
     @Override
@@ -125,76 +129,18 @@ return new RestaurantWithRole(
 
     @Override
     public List<RestaurantWithRole> getRestaurantsWithRole(UUID userId) {
-        // 1. Fetch User Roles from Role Module via Gateway
-        List<UserRoleDTO> userRoles = identityGateway.getUserRoles(userId);
-
-        if (userRoles.isEmpty()) {
-            return List.of();
-        }
-
-        // 2. Extract Restaurant IDs
-        List<UUID> restaurantIds = userRoles.stream()
-                .map(UserRoleDTO::restaurantId)
-                .toList();
-
-        // 3. Fetch Restaurants by IDs
-        List<RestaurantDomain> restaurants = persistencePort.findAllById(restaurantIds);
-
-        // 4. Combine in Memory
-        return restaurants.stream()
-                .map(restaurant -> {
-                    String roleName = userRoles.stream()
-                            .filter(ur -> ur.restaurantId().equals(restaurant.getId()))
-                            .findFirst()
-                            .map(UserRoleDTO::roleName)
-                            .orElse("Unknown");
-
-                    return new RestaurantWithRole(
-                            restaurant.getId(),
-                            restaurant.getName(),
-                            restaurant.getOperationMode(),
-                            restaurant.getIsActive(),
-                            restaurant.getOwnerId(),
-                            restaurant.getSettings(),
-                            roleName);
-                })
-                .toList();
+        // Read model: restaurants joined with the user's role in a single query
+        return persistencePort.findAllWithRoleByUserId(userId);
     }
 
     @Override
     @Transactional
     public RestaurantDomain update(RestaurantDomain domain) {
-        // 1. Fetch existing and check ownership
-        RestaurantDomain existing = getById(domain.getId(), domain.getOwnerId());
-
-        // 2. Merge changes
-        RestaurantDomain merged = existing.toBuilder()
-                .name(domain.getName() != null ? domain.getName() : existing.getName())
-                .address(domain.getAddress() != null ? domain.getAddress() : existing.getAddress())
-                .email(domain.getEmail() != null ? domain.getEmail() : existing.getEmail())
-                .phoneNumber(domain.getPhoneNumber() != null ? domain.getPhoneNumber() : existing.getPhoneNumber())
-                .operationMode(
-                        domain.getOperationMode() != null ? domain.getOperationMode() : existing.getOperationMode())
-                .isActive(domain.getIsActive() != null ? domain.getIsActive() : existing.getIsActive())
-                .settings(domain.getSettings() != null ? domain.getSettings() : existing.getSettings())
-                .build();
-
-        // 3. Validate Unique Constraints (if changed)
-        if (!merged.getName().equals(existing.getName()) &&
-                persistencePort.existsByNameAndOwnerId(merged.getName(), merged.getOwnerId())) {
-            throw RestaurantAlreadyExistsException.forField("name", merged.getName());
-        }
-        if (!merged.getAddress().equals(existing.getAddress()) &&
-                persistencePort.existsByAddressAndOwnerId(merged.getAddress(), merged.getOwnerId())) {
-            throw RestaurantAlreadyExistsException.forField("address", merged.getAddress());
-        }
-        if (!merged.getPhoneNumber().equals(existing.getPhoneNumber()) &&
-                persistencePort.existsByPhoneNumberAndOwnerId(merged.getPhoneNumber(), merged.getOwnerId())) {
-            throw RestaurantAlreadyExistsException.forField("phone number", merged.getPhoneNumber());
-        }
-
-        // 4. Save
-        return persistencePort.save(merged);
+        // 1. Patch in one statement: only the provided (non-null) fields are written,
+        // scoped to the owner, guarded against unique-field conflicts and, when the
+        // client sent one, against a stale version. No read before the write.
+        return persistencePort.update(domain)
+                .orElseThrow(() -> updateFailure(domain));
     }
 
     @Override
@@ -204,13 +150,9 @@ return new RestaurantWithRole(
 
         // Compose with role
         // For update, we can assume we want the role of the user performing the update
-        List<UserRoleDTO> userRoles = identityGateway.getUserRoles(userId);
-
-        String roleName = userRoles.stream()
-                .filter(ur -> ur.restaurantId().equals(updated.getId()))
-                .findFirst()
-                .map(UserRoleDTO::roleName)
+        UserRoleDTO role = identityGateway.findUserRole(userId, updated.getId())
                 .orElse(null);
+        String roleName = role != null ? role.roleName() : null;
 
         // Fallback for owner if something desynced or race condition
         if (roleName == null && updated.getOwnerId().equals(userId)) {
@@ -224,7 +166,9 @@ return new RestaurantWithRole(
                 updated.getIsActive(),
                 updated.getOwnerId(),
                 updated.getSettings(),
-                roleName);
+                roleName,
+                role != null ? role.roleId() : null,
+                updated.getVersion());
     }
 
     @Override
@@ -232,4 +176,29 @@ return new RestaurantWithRole(
         return persistencePort.existsById(id);
     }
 
+    private static void checkConflicts(RestaurantValidation validation, RestaurantDomain domain) {
+        if (validation.nameTaken()) {
+            throw RestaurantAlreadyExistsException.forField("name", domain.getName());
+        }
+        if (validation.addressTaken()) {
+            throw RestaurantAlreadyExistsException.forField("address", domain.getAddress());
+        }
+        if (validation.phoneNumberTaken()) {
+            throw RestaurantAlreadyExistsException.forField("phone number", domain.getPhoneNumber());
+        }
+    }
+
+    /**
+     * 2. Failure path only: works out why the patch matched no row.
+     */
+    private RuntimeException updateFailure(RestaurantDomain domain) {
+        if (domain.getName() != null || domain.getAddress() != null || domain.getPhoneNumber() != null) {
+            RestaurantValidation validation = persistencePort.validate(domain.getOwnerId(),
+                    domain.getName(), domain.getAddress(), domain.getPhoneNumber(), domain.getId());
+            checkConflicts(validation, domain);
+        }
+        RestaurantDomain current = getById(domain.getId(), domain.getOwnerId());
+        return RestaurantVersionConflictException.forId(domain.getId(), current.getVersion());
+    }
+
 }
@@ -5,6 +5,9 @@ import com.beet.backend.modules.restaurant.application.dto.RestaurantResponse;
 import com.beet.backend.modules.restaurant.application.dto.RestaurantUpdateRequest;
 import com.beet.backend.modules.restaurant.application.dto.UserRestaurantPermissionsResponse;
 import com.beet.backend.modules.restaurant.application.handler.RestaurantHandler;
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+import com.beet.backend.shared.domain.annotation.RequiresPermission;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
 import com.beet.backend.shared.infrastructure.security.SecurityUtils;
 import jakarta.validation.Valid;
@@ -49,6 +52,8 @@ public class RestaurantController {
         return ResponseEntity.ok(handler.getRestaurantsByOwner(ownerId));
     }
 
+    @RequiresPermission(module = PermissionModule.RESTAURANTS, action = PermissionAction.UPDATE,
+            restaurantIdParam = "id")
     @PutMapping("/{id}")
     public ResponseEntity<ApiGenericResponse<RestaurantResponse>> update(
             @PathVariable UUID id,
@@ -1,7 +1,6 @@
 package com.beet.backend.modules.restaurant.infrastructure.output.adapter;
 
 import java.util.UUID;
-import com.beet.backend.modules.role.infrastructure.output.persistence.jdbc.aggregate.Permissions;
 import lombok.Data;
 
 @Data
@@ -12,5 +11,4 @@ public class PermissionProjection {
     private UUID roleId;
     private UUID userId;
     private UUID restaurantId;
-    private Permissions permission;
 }
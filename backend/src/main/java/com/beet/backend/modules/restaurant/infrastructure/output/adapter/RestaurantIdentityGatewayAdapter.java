@@ -2,13 +2,15 @@ package com.beet.backend.modules.restaurant.infrastructure.output.adapter;
 
 import com.beet.backend.modules.restaurant.domain.spi.RestaurantIdentityGateway;
 import com.beet.backend.modules.role.domain.api.AssignRoleServicePort;
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
 import com.beet.backend.modules.role.domain.model.UserRoleDTO;
 import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import com.beet.backend.shared.infrastructure.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -17,14 +19,19 @@ public class RestaurantIdentityGatewayAdapter implements RestaurantIdentityGatew
 
     private final AssignRoleServicePort assignRoleServicePort;
     private final RolePersistencePort rolePersistencePort;
+    private final RoleCatalogServicePort roleCatalogServicePort;
 
     @Override
-    public void assignRole(UUID userId, UUID restaurantId, String roleName) {
-        assignRoleServicePort.assignRole(userId, restaurantId, roleName, userId);
+    public UUID assignRole(UUID userId, UUID restaurantId, String roleName) {
+        return assignRoleServicePort.assignRole(userId, restaurantId, roleName, userId);
     }
 
     @Override
-    public List<UserRoleDTO> getUserRoles(UUID userId) {
-        return rolePersistencePort.findUserRoles(userId);
+    public Optional<UserRoleDTO> findUserRole(UUID userId, UUID restaurantId) {
+        // Signed role claim first: resolved in memory without touching user_restaurant_roles
+        Optional<RoleDomain> role = SecurityUtils.getSignedRoleId(userId, restaurantId)
+                .flatMap(roleCatalogServicePort::findById)
+                .or(() -> rolePersistencePort.findRoleByUserIdAndRestaurantId(userId, restaurantId));
+        return role.map(r -> new UserRoleDTO(restaurantId, r.getId(), r.getName()));
     }
 }
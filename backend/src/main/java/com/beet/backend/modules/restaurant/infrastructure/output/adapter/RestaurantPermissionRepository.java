@@ -12,8 +12,7 @@ public interface RestaurantPermissionRepository extends ListCrudRepository<Permi
             urr.id AS id,
             r.id AS role_id,
             urr.user_id AS user_id,
-            urr.restaurant_id AS restaurant_id,
-            r.permissions AS permission
+            urr.restaurant_id AS restaurant_id
             FROM user_restaurant_roles urr
             JOIN roles r ON urr.role_id = r.id
             WHERE urr.user_id = :userId
@@ -3,25 +3,71 @@ package com.beet.backend.modules.restaurant.infrastructure.output.adapter;
 import com.beet.backend.modules.restaurant.domain.model.UserRestaurantPermissions;
 import com.beet.backend.modules.restaurant.domain.spi.RestaurantPermissionsGateway;
 import com.beet.backend.modules.restaurant.infrastructure.output.mapper.RestaurantPermissionProjectionMapper;
-import lombok.RequiredArgsConstructor;
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.UUID;
 
+/**
+ * Serves "my permissions" from a bounded near-cache keyed by (user, restaurant).
+ * The frontend asks on every navigation, so the assignment query only runs on a miss;
+ * the role's permissions come already parsed from the role catalog.
+ * Role assignments evict explicitly; the TTL bounds staleness for anything else.
+ */
 @Component
-@RequiredArgsConstructor
 public class RestaurantPermissionsGatewayAdapter implements RestaurantPermissionsGateway {
 
+    static final String CACHE_NAME = "restaurant.permissions";
+
     private final RestaurantPermissionRepository repository;
     private final RestaurantPermissionProjectionMapper mapper;
+    private final RoleCatalogServicePort roleCatalogServicePort;
+    private final Cache<PermissionsKey, UserRestaurantPermissions> permissionsCache;
+
+    public RestaurantPermissionsGatewayAdapter(
+            RestaurantPermissionRepository repository,
+            RestaurantPermissionProjectionMapper mapper,
+            RoleCatalogServicePort roleCatalogServicePort,
+            MeterRegistry meterRegistry,
+            @Value("${application.cache.restaurant-permissions.ttl:5m}") Duration cacheTtl,
+            @Value("${application.cache.restaurant-permissions.size:10000}") long cacheSize) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.roleCatalogServicePort = roleCatalogServicePort;
+        this.permissionsCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, permissionsCache, CACHE_NAME);
+    }
 
     @Override
     public UserRestaurantPermissions getMyPermissionsForRestaurant(UUID restaurantId, UUID userId) {
-        var projection = repository.findByRestaurantIdAndUserId(restaurantId, userId);
-        if (projection != null) {
-            return mapper.toDomain(projection);
-        }
-        return null;
+        // Users without a role are not cached: the loader returns null
+        return permissionsCache.get(new PermissionsKey(userId, restaurantId), key -> {
+            var projection = repository.findByRestaurantIdAndUserId(restaurantId, userId);
+            if (projection == null) {
+                return null;
+            }
+            return mapper.toDomain(projection, roleCatalogServicePort.findById(projection.getRoleId())
+                    .map(RoleDomain::getPermissions)
+                    .orElse(null));
+        });
     }
 
+    @Override
+    public void evict(UUID restaurantId, UUID userId) {
+        permissionsCache.invalidate(new PermissionsKey(userId, restaurantId));
+    }
+
+    private record PermissionsKey(UUID userId, UUID restaurantId) {
+    }
 }
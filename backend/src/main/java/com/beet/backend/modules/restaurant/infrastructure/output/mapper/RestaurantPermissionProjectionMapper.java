@@ -2,12 +2,13 @@ package com.beet.backend.modules.restaurant.infrastructure.output.mapper;
 
 import com.beet.backend.modules.restaurant.domain.model.UserRestaurantPermissions;
 import com.beet.backend.modules.restaurant.infrastructure.output.adapter.PermissionProjection;
+import com.beet.backend.modules.role.infrastructure.output.persistence.jdbc.aggregate.Permissions;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RestaurantPermissionProjectionMapper {
 
-    public UserRestaurantPermissions toDomain(PermissionProjection projection) {
+    public UserRestaurantPermissions toDomain(PermissionProjection projection, Permissions permissions) {
         if (projection == null) {
             return null;
         }
@@ -16,8 +17,7 @@ public class RestaurantPermissionProjectionMapper {
                 .userId(projection.getUserId())
                 .roleId(projection.getRoleId())
                 .roleName(projection.getRoleName())
-                .permissions(
-                        projection.getPermission() != null ? projection.getPermission().getModulePermissions() : null)
+                .permissions(permissions != null ? permissions.getModulePermissions() : null)
                 .build();
     }
 }
@@ -1,15 +1,27 @@
 package com.beet.backend.modules.restaurant.infrastructure.output.persistence.jdbc.adapter;
 
 import com.beet.backend.modules.restaurant.domain.model.RestaurantDomain;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantSettings;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantValidation;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantWithRole;
 import com.beet.backend.modules.restaurant.domain.spi.RestaurantPersistencePort;
 import com.beet.backend.modules.restaurant.infrastructure.output.persistence.jdbc.aggregate.RestaurantAggregate;
 import com.beet.backend.modules.restaurant.infrastructure.output.persistence.jdbc.mapper.RestaurantAggregateMapper;
 import com.beet.backend.modules.restaurant.infrastructure.output.persistence.jdbc.repository.RestaurantJdbcRepository;
+import com.beet.backend.shared.domain.model.OperationMode;
+import com.beet.backend.shared.infrastructure.persistence.AggregatePatchWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -20,24 +32,35 @@ public class RestaurantJdbcAdapter implements RestaurantPersistencePort {
 
     private final RestaurantJdbcRepository repository;
     private final RestaurantAggregateMapper mapper;
+    private final JdbcClient jdbcClient;
+    private final AggregatePatchWriter patchWriter;
+    private final ObjectMapper objectMapper;
 
     @Override
     public RestaurantDomain save(RestaurantDomain domain) {
-        RestaurantAggregate aggregate;
-        if (domain.getId() != null) {
-            aggregate = repository.findById(domain.getId())
-                    .map(existing -> {
-                        mapper.updateAggregate(existing, domain);
-                        return existing;
-                    })
-                    .orElseGet(() -> mapper.toAggregate(domain));
-        } else {
-            aggregate = mapper.toAggregate(domain);
-        }
-        RestaurantAggregate saved = repository.save(aggregate);
+        RestaurantAggregate saved = repository.save(mapper.toAggregate(domain));
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public Optional<RestaurantDomain> update(RestaurantDomain domain) {
+        // Unique fields are guarded inside the UPDATE itself, so the happy path stays a
+        // single statement; only the fields being written are checked.
+        Map<String, Object> guardParams = new HashMap<>();
+        List<String> conflicts = new ArrayList<>();
+        addConflict(conflicts, guardParams, "name", domain.getName());
+        addConflict(conflicts, guardParams, "address", domain.getAddress());
+        addConflict(conflicts, guardParams, "phone_number", domain.getPhoneNumber());
+
+        String guard = conflicts.isEmpty() ? null : """
+                NOT EXISTS (SELECT 1 FROM restaurants o
+                            WHERE o.owner_id = t.owner_id AND o.id <> t.id AND (%s))
+                """.formatted(String.join(" OR ", conflicts));
+
+        return patchWriter.update(mapper.toAggregate(domain), Set.of("ownerId"), guard, guardParams)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Optional<RestaurantDomain> findById(UUID id) {
         return repository.findById(id)
@@ -63,6 +86,36 @@ public class RestaurantJdbcAdapter implements RestaurantPersistencePort {
                 .toList();
     }
 
+    @Override
+    public List<RestaurantWithRole> findAllWithRoleByUserId(UUID userId) {
+        // Read model (CQRS): one join driven by idx_urr_user_id instead of loading
+        // the roles and the restaurants separately and matching them in memory
+        String sql = """
+                SELECT r.id, r.name, r.operation_mode, r.is_active, r.owner_id, r.settings, r.version,
+                       ro.id   AS role_id,
+                       ro.name AS role_name
+                FROM user_restaurant_roles urr
+                JOIN restaurants r  ON r.id = urr.restaurant_id
+                JOIN roles       ro ON ro.id = urr.role_id
+                WHERE urr.user_id = :userId
+                ORDER BY r.name
+                """;
+
+        return jdbcClient.sql(sql)
+                .param("userId", userId)
+                .query((rs, rowNum) -> new RestaurantWithRole(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("name"),
+                        OperationMode.valueOf(rs.getString("operation_mode")),
+                        rs.getBoolean("is_active"),
+                        rs.getObject("owner_id", UUID.class),
+                        readSettings(rs.getString("settings")),
+                        rs.getString("role_name"),
+                        rs.getObject("role_id", UUID.class),
+                        rs.getObject("version", Long.class)))
+                .list();
+    }
+
     @Override
     public int countByOwnerId(UUID ownerId) {
         return repository.countByOwnerId(ownerId);
@@ -83,4 +136,65 @@ public class RestaurantJdbcAdapter implements RestaurantPersistencePort {
         return repository.existsByPhoneNumberAndOwnerId(phoneNumber, ownerId);
     }
 
+    @Override
+    public RestaurantValidation validate(UUID ownerId, String name, String address, String phoneNumber,
+            UUID excludeId) {
+        // Plan limit, usage and conflict flags in one round trip. An owner without a
+        // plan is allowed 1 restaurant. Usage is the materialized counter, not a COUNT(*).
+        // The exclusion is appended only when present to avoid untyped NULL parameters.
+        String exclude = excludeId != null ? " AND r.id <> :excludeId" : "";
+        String sql = """
+                SELECT CASE WHEN sp.id IS NULL THEN 1
+                            ELSE COALESCE((sp.features ->> 'maxRestaurants')::int, 0) END AS max_restaurants,
+                       COALESCE(ou.restaurants_used, 0) AS restaurants_used,
+                       EXISTS (SELECT 1 FROM restaurants r
+                               WHERE r.owner_id = :ownerId AND r.name = :name%1$s) AS name_taken,
+                       EXISTS (SELECT 1 FROM restaurants r
+                               WHERE r.owner_id = :ownerId AND r.address = :address%1$s) AS address_taken,
+                       EXISTS (SELECT 1 FROM restaurants r
+                               WHERE r.owner_id = :ownerId AND r.phone_number = :phoneNumber%1$s) AS phone_taken
+                FROM (SELECT 1) AS one
+                LEFT JOIN users u ON u.id = :ownerId
+                LEFT JOIN subscription_plans sp ON sp.id = u.subscription_plan_id
+                LEFT JOIN owner_usage ou ON ou.owner_id = :ownerId
+                """.formatted(exclude);
+
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("ownerId", ownerId);
+        paramMap.put("name", name);
+        paramMap.put("address", address);
+        paramMap.put("phoneNumber", phoneNumber);
+        if (excludeId != null) {
+            paramMap.put("excludeId", excludeId);
+        }
+
+        return jdbcClient.sql(sql)
+                .params(paramMap)
+                .query((rs, rowNum) -> new RestaurantValidation(
+                        rs.getInt("max_restaurants"),
+                        rs.getInt("restaurants_used"),
+                        rs.getBoolean("name_taken"),
+                        rs.getBoolean("address_taken"),
+                        rs.getBoolean("phone_taken")))
+                .single();
+    }
+
+    private static void addConflict(List<String> conflicts, Map<String, Object> params, String column,
+            String value) {
+        if (value != null) {
+            conflicts.add("o." + column + " = :guard_" + column);
+            params.put("guard_" + column, value);
+        }
+    }
+
+    private RestaurantSettings readSettings(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, RestaurantSettings.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
 }
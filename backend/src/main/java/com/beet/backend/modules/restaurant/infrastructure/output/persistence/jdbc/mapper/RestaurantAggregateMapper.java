@@ -21,13 +21,14 @@ public class RestaurantAggregateMapper {
                 .isActive(aggregate.getIsActive())
                 .ownerId(aggregate.getOwnerId())
                 .settings(aggregate.getSettings())
+                .version(aggregate.getVersion())
                 .build();
     }
 
     public RestaurantAggregate toAggregate(RestaurantDomain domain) {
         if (domain == null)
             return null;
-        return RestaurantAggregate.builder()
+        RestaurantAggregate aggregate = RestaurantAggregate.builder()
                 .id(domain.getId())
                 .name(domain.getName())
                 .address(domain.getAddress())
@@ -38,17 +39,7 @@ public class RestaurantAggregateMapper {
                 .ownerId(domain.getOwnerId())
                 .settings(domain.getSettings())
                 .build();
-    }
-
-    public void updateAggregate(RestaurantAggregate aggregate, RestaurantDomain domain) {
-        aggregate.setName(domain.getName());
-        aggregate.setAddress(domain.getAddress());
-        aggregate.setEmail(domain.getEmail());
-        aggregate.setPhoneNumber(domain.getPhoneNumber());
-        aggregate.setOperationMode(domain.getOperationMode());
-        aggregate.setIsActive(domain.getIsActive());
-        aggregate.setSettings(domain.getSettings());
-        // ownerId should not change usually, but we can set it
-        aggregate.setOwnerId(domain.getOwnerId());
+        aggregate.setVersion(domain.getVersion());
+        return aggregate;
     }
 }
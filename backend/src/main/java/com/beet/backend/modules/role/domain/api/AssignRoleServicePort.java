@@ -3,5 +3,8 @@ package com.beet.backend.modules.role.domain.api;
 import java.util.UUID;
 
 public interface AssignRoleServicePort {
-    void assignRole(UUID userId, UUID restaurantId, String roleName, UUID senderId);
+    /**
+     * Assigns the named role to the user in the restaurant and returns the role id.
+     */
+    UUID assignRole(UUID userId, UUID restaurantId, String roleName, UUID senderId);
 }
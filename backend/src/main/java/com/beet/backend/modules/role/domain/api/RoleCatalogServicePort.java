@@ -0,0 +1,23 @@
+package com.beet.backend.modules.role.domain.api;
+
+import com.beet.backend.modules.role.domain.model.PermissionMatrix;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RoleCatalogServicePort {
+    Optional<RoleDomain> findById(UUID roleId);
+
+    /**
+     * Looks up a system role (one not scoped to a restaurant) by name.
+     */
+    Optional<RoleDomain> findByName(String name);
+
+    PermissionMatrix getPermissionMatrix(UUID roleId);
+
+    /**
+     * Rebuilds the in-memory catalog from the roles table. Call after roles are written.
+     */
+    void reload();
+}
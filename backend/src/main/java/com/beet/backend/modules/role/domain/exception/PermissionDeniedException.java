@@ -0,0 +1,25 @@
+package com.beet.backend.modules.role.domain.exception;
+
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+
+import java.util.UUID;
+
+public class PermissionDeniedException extends RuntimeException {
+
+    private static final String TEMPLATE = "Missing permission %s:%s in restaurant %s";
+    private static final String MISSING_RESTAURANT = "Missing permission %s:%s, no restaurant in request";
+
+    private PermissionDeniedException(String message) {
+        super(message);
+    }
+
+    public static PermissionDeniedException forRestaurant(PermissionModule module, PermissionAction action,
+            UUID restaurantId) {
+        return new PermissionDeniedException(String.format(TEMPLATE, module, action, restaurantId));
+    }
+
+    public static PermissionDeniedException withoutRestaurant(PermissionModule module, PermissionAction action) {
+        return new PermissionDeniedException(String.format(MISSING_RESTAURANT, module, action));
+    }
+}
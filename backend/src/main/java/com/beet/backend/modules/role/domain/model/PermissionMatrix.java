@@ -0,0 +1,80 @@
+package com.beet.backend.modules.role.domain.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compiled form of a role's permissions: one {@code long} bitmask per
+ * {@link PermissionModule}, one bit per {@link PermissionAction}.
+ * <p>
+ * Wildcards are expanded once at construction: module {@code ALL} grants its actions on
+ * every module, and {@code ALL} or {@code MANAGE} grant every action of their module.
+ * A check is then a single array read and bit test.
+ */
+public final class PermissionMatrix {
+
+    private static final PermissionModule[] MODULES = PermissionModule.values();
+    private static final long ALL_ACTIONS = (1L << PermissionAction.values().length) - 1;
+
+    public static final PermissionMatrix EMPTY = new PermissionMatrix(new long[MODULES.length]);
+
+    static {
+        if (PermissionAction.values().length > Long.SIZE) {
+            throw new IllegalStateException("PermissionAction no longer fits in a long bitmask");
+        }
+    }
+
+    private final long[] masks;
+
+    private PermissionMatrix(long[] masks) {
+        this.masks = masks;
+    }
+
+    public static PermissionMatrix of(Map<PermissionModule, List<PermissionAction>> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+        long[] masks = new long[MODULES.length];
+        permissions.forEach((module, actions) -> {
+            long mask = toMask(actions);
+            if (module == PermissionModule.ALL) {
+                for (int i = 0; i < masks.length; i++) {
+                    masks[i] |= mask;
+                }
+            } else {
+                masks[module.ordinal()] |= mask;
+            }
+        });
+        return new PermissionMatrix(masks);
+    }
+
+    public boolean allows(PermissionModule module, PermissionAction action) {
+        return (masks[module.ordinal()] & (1L << action.ordinal())) != 0;
+    }
+
+    private static long toMask(Collection<PermissionAction> actions) {
+        if (actions == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (PermissionAction action : actions) {
+            if (action == PermissionAction.ALL || action == PermissionAction.MANAGE) {
+                return ALL_ACTIONS;
+            }
+            mask |= 1L << action.ordinal();
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PermissionMatrix other && Arrays.equals(masks, other.masks));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(masks);
+    }
+}
@@ -13,4 +13,5 @@ public class RoleDomain {
     private final UUID id;
     private final String name;
     private final Permissions permissions;
+    private final UUID restaurantId;
 }
@@ -4,5 +4,6 @@ import java.util.UUID;
 
 public record UserRoleDTO(
         UUID restaurantId,
+        UUID roleId,
         String roleName) {
 }
@@ -0,0 +1,17 @@
+package com.beet.backend.modules.role.domain.spi;
+
+import java.util.UUID;
+
+public interface RoleAccessGateway {
+    /**
+     * Invalidates access tokens already issued to the user, so role claims
+     * signed into them are not trusted after an assignment changes.
+     */
+    void revokeIssuedTokens(UUID userId);
+
+    /**
+     * Evicts cached permission lookups of the user in the restaurant once the
+     * current transaction commits.
+     */
+    void evictPermissions(UUID userId, UUID restaurantId);
+}
@@ -17,4 +17,8 @@ public interface RolePersistencePort {
     List<UserRoleDTO> findUserRoles(UUID userId);
 
     Optional<RoleDomain> findRoleByUserIdAndRestaurantId(UUID userId, UUID restaurantId);
+
+    Optional<RoleDomain> findRoleById(UUID roleId);
+
+    List<RoleDomain> findAllRoles();
 }
@@ -1,11 +1,15 @@
 package com.beet.backend.modules.role.domain.usecase;
 
 import com.beet.backend.modules.role.domain.api.AssignRoleServicePort;
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
 import com.beet.backend.modules.role.domain.exception.RoleNotFoundException;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.domain.spi.RoleAccessGateway;
 import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -13,16 +17,32 @@ import java.util.UUID;
 public class AssignRoleUseCase implements AssignRoleServicePort {
 
     private final RolePersistencePort persistencePort;
+    private final RoleAccessGateway accessGateway;
+    private final RoleCatalogServicePort roleCatalogServicePort;
 
     @Override
-    public void assignRole(UUID userId, UUID restaurantId, String roleName, UUID senderId) {
-        UUID roleId = persistencePort.findRoleIdByName(roleName)
+    public UUID assignRole(UUID userId, UUID restaurantId, String roleName, UUID senderId) {
+        UUID roleId = roleCatalogServicePort.findByName(roleName)
+                .map(RoleDomain::getId)
                 .orElseThrow(() -> RoleNotFoundException.forName(roleName));
 
-        if (persistencePort.existsByUserIdAndRestaurantIdAndRoleId(userId, restaurantId, roleId)) {
-            return;
+        // One lookup answers both "already assigned" and "is this a role change"
+        Optional<UUID> currentRoleId = persistencePort.findRoleByUserIdAndRestaurantId(userId, restaurantId)
+                .map(RoleDomain::getId);
+        if (currentRoleId.filter(roleId::equals).isPresent()) {
+            return roleId;
         }
 
+        // A new restaurant is simply absent from older tokens and resolved from the DB,
+        // but a changed role would contradict the signed claim: revoke those tokens
+        boolean changesExistingRole = currentRoleId.isPresent();
+
         persistencePort.assignRoleToUser(userId, restaurantId, roleId, senderId);
+        accessGateway.evictPermissions(userId, restaurantId);
+
+        if (changesExistingRole) {
+            accessGateway.revokeIssuedTokens(userId);
+        }
+        return roleId;
     }
 }
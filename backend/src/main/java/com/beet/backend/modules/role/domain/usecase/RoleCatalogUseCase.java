@@ -0,0 +1,99 @@
+package com.beet.backend.modules.role.domain.usecase;
+
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.model.PermissionMatrix;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory role registry. Roles are a tiny, rarely changing table, so all of them are
+ * loaded at startup with their permissions parsed and compiled, and every lookup is a
+ * map read against an immutable snapshot.
+ * <p>
+ * A lookup that misses checks the database once; if the role exists (created after
+ * the last load) the whole snapshot is reloaded so later reads stay in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoleCatalogUseCase implements RoleCatalogServicePort {
+
+    private final RolePersistencePort persistencePort;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    @Override
+    public synchronized void reload() {
+        snapshot = Snapshot.of(persistencePort.findAllRoles());
+        log.info("Role catalog loaded with {} roles", snapshot.byId().size());
+    }
+
+    @Override
+    public Optional<RoleDomain> findById(UUID roleId) {
+        RoleDomain role = snapshot.byId().get(roleId);
+        if (role == null && persistencePort.findRoleById(roleId).isPresent()) {
+            reload();
+            role = snapshot.byId().get(roleId);
+        }
+        return Optional.ofNullable(role);
+    }
+
+    @Override
+    public Optional<RoleDomain> findByName(String name) {
+        RoleDomain role = snapshot.byName().get(name);
+        if (role == null && persistencePort.findRoleIdByName(name).isPresent()) {
+            reload();
+            role = snapshot.byName().get(name);
+        }
+        return Optional.ofNullable(role);
+    }
+
+    @Override
+    public PermissionMatrix getPermissionMatrix(UUID roleId) {
+        PermissionMatrix matrix = snapshot.matrices().get(roleId);
+        if (matrix != null) {
+            return matrix;
+        }
+        return findById(roleId)
+                .map(role -> snapshot.matrices().get(role.getId()))
+                .orElse(PermissionMatrix.EMPTY);
+    }
+
+    private record Snapshot(Map<UUID, RoleDomain> byId, Map<String, RoleDomain> byName,
+            Map<UUID, PermissionMatrix> matrices) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of());
+
+        static Snapshot of(List<RoleDomain> roles) {
+            Map<UUID, RoleDomain> byId = new HashMap<>();
+            Map<String, RoleDomain> byName = new HashMap<>();
+            Map<UUID, PermissionMatrix> matrices = new HashMap<>();
+            for (RoleDomain role : roles) {
+                byId.put(role.getId(), role);
+                // Names are only unique among system roles; restaurant roles are reached by id
+                if (role.getRestaurantId() == null) {
+                    byName.put(role.getName(), role);
+                }
+                matrices.put(role.getId(), PermissionMatrix.of(role.getPermissions() != null
+                        ? role.getPermissions().getModulePermissions()
+                        : null));
+            }
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byName), Map.copyOf(matrices));
+        }
+    }
+}
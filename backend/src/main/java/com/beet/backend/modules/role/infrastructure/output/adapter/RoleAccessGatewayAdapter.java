@@ -0,0 +1,51 @@
+package com.beet.backend.modules.role.infrastructure.output.adapter;
+
+import com.beet.backend.modules.restaurant.domain.spi.RestaurantPermissionsGateway;
+import com.beet.backend.modules.role.domain.spi.RoleAccessGateway;
+import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.beet.backend.shared.infrastructure.security.TokenVersionValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Cache invalidations run after the surrounding transaction commits. Evicting earlier
+ * would let a concurrent lookup reload the not-yet-committed old state and cache it
+ * for the full TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleAccessGatewayAdapter implements RoleAccessGateway {
+
+    private final UserPersistencePort userPersistencePort;
+    private final TokenVersionValidator tokenVersionValidator;
+    private final RestaurantPermissionsGateway restaurantPermissionsGateway;
+
+    @Override
+    public void revokeIssuedTokens(UUID userId) {
+        userPersistencePort.incrementTokenVersion(userId);
+        afterCommit(() -> tokenVersionValidator.invalidate(userId));
+    }
+
+    @Override
+    public void evictPermissions(UUID userId, UUID restaurantId) {
+        afterCommit(() -> restaurantPermissionsGateway.evict(restaurantId, userId));
+    }
+
+    /** Runs the action once the current transaction commits, or right away outside one. */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -45,4 +45,16 @@ public class RoleJdbcAdapter implements RolePersistencePort {
         return repository.findRoleByUserIdAndRestaurantId(userId, restaurantId)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public Optional<RoleDomain> findRoleById(UUID roleId) {
+        return repository.findActiveById(roleId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<RoleDomain> findAllRoles() {
+        return repository.findAllActive().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
@@ -9,5 +9,6 @@ import java.util.UUID;
 public record RoleAggregate(
         @Id UUID id,
         String name,
-        Permissions permissions) {
+        Permissions permissions,
+        UUID restaurantId) {
 }
@@ -15,6 +15,7 @@ public class RoleAggregateMapper {
                 .id(aggregate.id())
                 .name(aggregate.name())
                 .permissions(aggregate.permissions())
+                .restaurantId(aggregate.restaurantId())
                 .build();
     }
 
@@ -25,6 +26,7 @@ public class RoleAggregateMapper {
         return new RoleAggregate(
                 domain.getId(),
                 domain.getName(),
-                domain.getPermissions());
+                domain.getPermissions(),
+                domain.getRestaurantId());
     }
 }
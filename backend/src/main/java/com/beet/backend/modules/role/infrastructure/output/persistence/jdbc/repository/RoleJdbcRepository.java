@@ -13,9 +13,15 @@ import java.util.UUID;
 
 public interface RoleJdbcRepository extends ListCrudRepository<RoleAggregate, UUID> {
 
-    @Query("SELECT id FROM roles WHERE name = :name")
+    @Query("SELECT id FROM roles WHERE name = :name AND restaurant_id IS NULL AND deleted_at IS NULL")
     Optional<UUID> findIdByName(String name);
 
+    @Query("SELECT * FROM roles WHERE id = :id AND deleted_at IS NULL")
+    Optional<RoleAggregate> findActiveById(UUID id);
+
+    @Query("SELECT * FROM roles WHERE deleted_at IS NULL")
+    List<RoleAggregate> findAllActive();
+
     @Query("SELECT COUNT(*) > 0 FROM user_restaurant_roles WHERE user_id = :userId AND restaurant_id = :restaurantId AND role_id = :roleId")
     boolean existsByUserIdAndRestaurantIdAndRoleId(UUID userId, UUID restaurantId, UUID roleId);
 
@@ -24,7 +30,7 @@ public interface RoleJdbcRepository extends ListCrudRepository<RoleAggregate, UU
     void assignRoleToUser(UUID userId, UUID restaurantId, UUID roleId, UUID senderId);
 
     @Query(value = """
-            SELECT urr.restaurant_id, r.name as role_name
+            SELECT urr.restaurant_id, urr.role_id, r.name as role_name
             FROM user_restaurant_roles urr
             JOIN roles r ON urr.role_id = r.id
             WHERE urr.user_id = :userId
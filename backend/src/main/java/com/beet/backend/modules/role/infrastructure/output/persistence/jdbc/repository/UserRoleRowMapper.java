@@ -12,6 +12,7 @@ public class UserRoleRowMapper implements RowMapper<UserRoleDTO> {
     public UserRoleDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new UserRoleDTO(
                 UUID.fromString(rs.getString("restaurant_id")),
+                UUID.fromString(rs.getString("role_id")),
                 rs.getString("role_name"));
     }
 }
@@ -0,0 +1,22 @@
+package com.beet.backend.modules.subscription.domain.api;
+
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionFeatures;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EntitlementServicePort {
+
+    /**
+     * Features of the owner's current plan; empty when the owner has no plan.
+     */
+    Optional<SubscriptionFeatures> getFeatures(UUID ownerId);
+
+    boolean isEnabled(UUID ownerId, PlanFeature feature);
+
+    /**
+     * Drops the cached plan of the owner. Call after the owner changes plan.
+     */
+    void evict(UUID ownerId);
+}
@@ -0,0 +1,21 @@
+package com.beet.backend.modules.subscription.domain.api;
+
+import com.beet.backend.modules.subscription.domain.model.UsageCounter;
+
+import java.util.UUID;
+
+public interface OwnerUsageServicePort {
+
+    /**
+     * Takes one unit of the owner's plan limit. Must run in the transaction of the
+     * insert it accounts for.
+     *
+     * @return false when the limit is already reached; nothing is reserved then
+     */
+    boolean reserve(UUID ownerId, UsageCounter counter);
+
+    /**
+     * Gives one unit back, in the transaction of the (soft) delete it accounts for.
+     */
+    void release(UUID ownerId, UsageCounter counter);
+}
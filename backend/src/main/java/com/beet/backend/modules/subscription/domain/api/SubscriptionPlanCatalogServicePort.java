@@ -0,0 +1,18 @@
+package com.beet.backend.modules.subscription.domain.api;
+
+import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SubscriptionPlanCatalogServicePort {
+    Optional<SubscriptionPlan> findById(UUID planId);
+
+    List<SubscriptionPlan> findAll();
+
+    /**
+     * Rebuilds the in-memory catalog from the subscription_plans table. Call after plans are written.
+     */
+    void reload();
+}
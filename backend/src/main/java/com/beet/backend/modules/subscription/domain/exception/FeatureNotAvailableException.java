@@ -0,0 +1,16 @@
+package com.beet.backend.modules.subscription.domain.exception;
+
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+
+public class FeatureNotAvailableException extends RuntimeException {
+
+    private static final String TEMPLATE = "Your plan does not include %s";
+
+    private FeatureNotAvailableException(String message) {
+        super(message);
+    }
+
+    public static FeatureNotAvailableException forFeature(PlanFeature feature) {
+        return new FeatureNotAvailableException(String.format(TEMPLATE, feature.getKey()));
+    }
+}
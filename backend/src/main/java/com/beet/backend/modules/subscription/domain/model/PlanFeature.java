@@ -0,0 +1,28 @@
+package com.beet.backend.modules.subscription.domain.model;
+
+import java.util.function.Predicate;
+
+/**
+ * On/off entitlements of a plan, as named in the {@code features} JSON.
+ */
+public enum PlanFeature {
+    ADVANCED_REPORTING("advancedReporting", SubscriptionFeatures::isAdvancedReporting),
+    PRIORITY_SUPPORT("prioritySupport", SubscriptionFeatures::isPrioritySupport),
+    MULTI_USER_ACCESS("multiUserAccess", SubscriptionFeatures::isMultiUserAccess);
+
+    private final String key;
+    private final Predicate<SubscriptionFeatures> enabled;
+
+    PlanFeature(String key, Predicate<SubscriptionFeatures> enabled) {
+        this.key = key;
+        this.enabled = enabled;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isEnabledIn(SubscriptionFeatures features) {
+        return features != null && enabled.test(features);
+    }
+}
@@ -0,0 +1,9 @@
+package com.beet.backend.modules.subscription.domain.model;
+
+/**
+ * Plan-limited resources an owner consumes, each tracked by a counter in
+ * {@code owner_usage} and capped by the matching {@link SubscriptionFeatures} limit.
+ */
+public enum UsageCounter {
+    RESTAURANTS
+}
@@ -0,0 +1,15 @@
+package com.beet.backend.modules.subscription.domain.spi;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OwnerPlanPersistencePort {
+
+    Optional<UUID> findPlanIdByOwnerId(UUID ownerId);
+
+    /**
+     * Drops any cached plan of the owner, so the next read reflects a plan change.
+     * Inside a transaction the eviction waits for the commit.
+     */
+    void evict(UUID ownerId);
+}
@@ -0,0 +1,18 @@
+package com.beet.backend.modules.subscription.domain.spi;
+
+import com.beet.backend.modules.subscription.domain.model.UsageCounter;
+
+import java.util.OptionalInt;
+import java.util.UUID;
+
+public interface OwnerUsagePersistencePort {
+
+    /**
+     * Increments the counter only while it is below the owner's plan limit.
+     *
+     * @return the new value, or empty when the limit was reached
+     */
+    OptionalInt incrementWithinLimit(UUID ownerId, UsageCounter counter);
+
+    void decrement(UUID ownerId, UsageCounter counter);
+}
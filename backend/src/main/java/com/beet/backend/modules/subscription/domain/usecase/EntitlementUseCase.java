@@ -0,0 +1,44 @@
+package com.beet.backend.modules.subscription.domain.usecase;
+
+import com.beet.backend.modules.subscription.domain.api.EntitlementServicePort;
+import com.beet.backend.modules.subscription.domain.api.SubscriptionPlanCatalogServicePort;
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionFeatures;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
+import com.beet.backend.modules.subscription.domain.spi.OwnerPlanPersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves what an owner's plan allows: owner to plan id from the (cached) owner plan
+ * lookup, plan to parsed features from the plan catalog. Warm checks never hit the DB.
+ */
+@Service
+@RequiredArgsConstructor
+public class EntitlementUseCase implements EntitlementServicePort {
+
+    private final OwnerPlanPersistencePort ownerPlanPersistencePort;
+    private final SubscriptionPlanCatalogServicePort planCatalog;
+
+    @Override
+    public Optional<SubscriptionFeatures> getFeatures(UUID ownerId) {
+        return ownerPlanPersistencePort.findPlanIdByOwnerId(ownerId)
+                .flatMap(planCatalog::findById)
+                .map(SubscriptionPlan::getFeatures);
+    }
+
+    @Override
+    public boolean isEnabled(UUID ownerId, PlanFeature feature) {
+        return getFeatures(ownerId)
+                .map(feature::isEnabledIn)
+                .orElse(false);
+    }
+
+    @Override
+    public void evict(UUID ownerId) {
+        ownerPlanPersistencePort.evict(ownerId);
+    }
+}
@@ -2,7 +2,7 @@ package com.beet.backend.modules.subscription.domain.usecase;
 
 import com.beet.backend.modules.subscription.domain.api.GetSubscriptionPlanByIdServicePort;
 import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
-import com.beet.backend.modules.subscription.domain.spi.SubscriptionPersistencePort;
+import com.beet.backend.modules.subscription.domain.api.SubscriptionPlanCatalogServicePort;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,11 +15,11 @@ import com.beet.backend.modules.subscription.domain.exception.SubscriptionPlanNo
 @RequiredArgsConstructor
 public class GetSubscriptionPlanByIdUseCase implements GetSubscriptionPlanByIdServicePort {
 
-    private final SubscriptionPersistencePort persistencePort;
+    private final SubscriptionPlanCatalogServicePort planCatalog;
 
     @Override
     public SubscriptionPlan getPlanById(UUID id) {
-        return persistencePort.findById(id)
+        return planCatalog.findById(id)
                 .orElseThrow(() -> SubscriptionPlanNotFoundException.forId(id));
     }
 }
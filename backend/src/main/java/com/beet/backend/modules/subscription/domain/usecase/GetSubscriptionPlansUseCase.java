@@ -2,7 +2,7 @@ package com.beet.backend.modules.subscription.domain.usecase;
 
 import com.beet.backend.modules.subscription.domain.api.GetSubscriptionPlansServicePort;
 import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
-import com.beet.backend.modules.subscription.domain.spi.SubscriptionPersistencePort;
+import com.beet.backend.modules.subscription.domain.api.SubscriptionPlanCatalogServicePort;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,10 +13,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GetSubscriptionPlansUseCase implements GetSubscriptionPlansServicePort {
 
-    private final SubscriptionPersistencePort persistencePort;
+    private final SubscriptionPlanCatalogServicePort planCatalog;
 
     @Override
     public List<SubscriptionPlan> getPlans() {
-        return persistencePort.findAll();
+        return planCatalog.findAll();
     }
 }
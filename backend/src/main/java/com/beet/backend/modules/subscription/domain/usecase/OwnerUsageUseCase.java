@@ -0,0 +1,29 @@
+package com.beet.backend.modules.subscription.domain.usecase;
+
+import com.beet.backend.modules.subscription.domain.api.OwnerUsageServicePort;
+import com.beet.backend.modules.subscription.domain.model.UsageCounter;
+import com.beet.backend.modules.subscription.domain.spi.OwnerUsagePersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OwnerUsageUseCase implements OwnerUsageServicePort {
+
+    private final OwnerUsagePersistencePort persistencePort;
+
+    @Override
+    public boolean reserve(UUID ownerId, UsageCounter counter) {
+        return persistencePort.incrementWithinLimit(ownerId, counter).isPresent();
+    }
+
+    @Override
+    public void release(UUID ownerId, UsageCounter counter) {
+        persistencePort.decrement(ownerId, counter);
+    }
+}
@@ -0,0 +1,70 @@
+package com.beet.backend.modules.subscription.domain.usecase;
+
+import com.beet.backend.modules.subscription.domain.api.SubscriptionPlanCatalogServicePort;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
+import com.beet.backend.modules.subscription.domain.spi.SubscriptionPersistencePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory plan registry. There are a handful of plans and they almost never change,
+ * so all of them are loaded at startup with their features already parsed, and every
+ * lookup is a map read against an immutable snapshot.
+ * <p>
+ * A lookup that misses checks the database once; if the plan exists (created after
+ * the last load) the whole snapshot is reloaded so later reads stay in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionPlanCatalogUseCase implements SubscriptionPlanCatalogServicePort {
+
+    private final SubscriptionPersistencePort persistencePort;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    @Override
+    public synchronized void reload() {
+        snapshot = Snapshot.of(persistencePort.findAll());
+        log.info("Subscription plan catalog loaded with {} plans", snapshot.all().size());
+    }
+
+    @Override
+    public Optional<SubscriptionPlan> findById(UUID planId) {
+        SubscriptionPlan plan = snapshot.byId().get(planId);
+        if (plan == null && persistencePort.findById(planId).isPresent()) {
+            reload();
+            plan = snapshot.byId().get(planId);
+        }
+        return Optional.ofNullable(plan);
+    }
+
+    @Override
+    public List<SubscriptionPlan> findAll() {
+        return snapshot.all();
+    }
+
+    private record Snapshot(Map<UUID, SubscriptionPlan> byId, List<SubscriptionPlan> all) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), List.of());
+
+        static Snapshot of(List<SubscriptionPlan> plans) {
+            Map<UUID, SubscriptionPlan> byId = new LinkedHashMap<>();
+            plans.forEach(plan -> byId.put(plan.getId(), plan));
+            return new Snapshot(Map.copyOf(byId), List.copyOf(plans));
+        }
+    }
+}
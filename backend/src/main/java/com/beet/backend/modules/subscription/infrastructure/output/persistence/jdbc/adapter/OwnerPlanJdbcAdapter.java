@@ -0,0 +1,77 @@
+package com.beet.backend.modules.subscription.infrastructure.output.persistence.jdbc.adapter;
+
+import com.beet.backend.modules.subscription.domain.spi.OwnerPlanPersistencePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Owner to plan id, served from a bounded near-cache. Owners without a plan are cached
+ * too (as empty), so feature checks for them don't query either.
+ * Plan changes evict explicitly, after the surrounding transaction commits; the TTL
+ * bounds staleness for anything else.
+ */
+@Component
+public class OwnerPlanJdbcAdapter implements OwnerPlanPersistencePort {
+
+    static final String CACHE_NAME = "owner.plans";
+
+    private final JdbcClient jdbcClient;
+    private final Cache<UUID, Optional<UUID>> planCache;
+
+    public OwnerPlanJdbcAdapter(
+            JdbcClient jdbcClient,
+            MeterRegistry meterRegistry,
+            @Value("${application.cache.owner-plans.ttl:10m}") Duration cacheTtl,
+            @Value("${application.cache.owner-plans.size:10000}") long cacheSize) {
+        this.jdbcClient = jdbcClient;
+        this.planCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, planCache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<UUID> findPlanIdByOwnerId(UUID ownerId) {
+        return planCache.get(ownerId, key -> jdbcClient.sql("""
+                        SELECT subscription_plan_id FROM users WHERE id = :ownerId AND deleted_at IS NULL
+                        """)
+                .param("ownerId", key)
+                .query(UUID.class)
+                .optional());
+    }
+
+    @Override
+    public void evict(UUID ownerId) {
+        afterCommit(() -> planCache.invalidate(ownerId));
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or right away outside one.
+     * Evicting before commit would let a concurrent lookup cache the old plan again.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.beet.backend.modules.subscription.infrastructure.output.persistence.jdbc.adapter;
+
+import com.beet.backend.modules.subscription.domain.model.UsageCounter;
+import com.beet.backend.modules.subscription.domain.spi.OwnerUsagePersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalInt;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class OwnerUsageJdbcAdapter implements OwnerUsagePersistencePort {
+
+    private final JdbcClient jdbcClient;
+
+    @Override
+    public OptionalInt incrementWithinLimit(UUID ownerId, UsageCounter counter) {
+        Column column = Column.of(counter);
+        // Check and reserve in one statement. The first reservation creates the row; later
+        // ones take the row lock and only increment while below the plan limit, so
+        // concurrent reservations of the same owner can't overshoot it.
+        String sql = """
+                INSERT INTO owner_usage AS ou (owner_id, %1$s)
+                SELECT u.id, 1
+                FROM users u
+                LEFT JOIN subscription_plans sp ON sp.id = u.subscription_plan_id
+                WHERE u.id = :ownerId AND %2$s > 0
+                ON CONFLICT (owner_id) DO UPDATE
+                    SET %1$s = ou.%1$s + 1, updated_at = NOW()
+                    WHERE ou.%1$s < (SELECT %2$s
+                                     FROM users u
+                                     LEFT JOIN subscription_plans sp ON sp.id = u.subscription_plan_id
+                                     WHERE u.id = ou.owner_id)
+                RETURNING ou.%1$s
+                """.formatted(column.name, column.limit());
+
+        return jdbcClient.sql(sql)
+                .param("ownerId", ownerId)
+                .query(Integer.class)
+                .optional()
+                .map(OptionalInt::of)
+                .orElse(OptionalInt.empty());
+    }
+
+    @Override
+    public void decrement(UUID ownerId, UsageCounter counter) {
+        String column = Column.of(counter).name;
+        jdbcClient.sql("""
+                UPDATE owner_usage
+                SET %1$s = %1$s - 1, updated_at = NOW()
+                WHERE owner_id = :ownerId AND %1$s > 0
+                """.formatted(column))
+                .param("ownerId", ownerId)
+                .update();
+    }
+
+    /**
+     * Counter column and the plan feature capping it. Owners without a plan get the
+     * fallback limit.
+     */
+    private enum Column {
+        RESTAURANTS("restaurants_used", "maxRestaurants", 1);
+
+        private final String name;
+        private final String feature;
+        private final int withoutPlan;
+
+        Column(String name, String feature, int withoutPlan) {
+            this.name = name;
+            this.feature = feature;
+            this.withoutPlan = withoutPlan;
+        }
+
+        static Column of(UsageCounter counter) {
+            return valueOf(counter.name());
+        }
+
+        String limit() {
+            return "CASE WHEN sp.id IS NULL THEN %d ELSE COALESCE((sp.features ->> '%s')::int, 0) END"
+                    .formatted(withoutPlan, feature);
+        }
+    }
+}
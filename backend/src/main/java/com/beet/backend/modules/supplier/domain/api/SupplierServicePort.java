@@ -2,6 +2,8 @@ package com.beet.backend.modules.supplier.domain.api;
 
 import com.beet.backend.modules.supplier.domain.model.SupplierDomain;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -16,4 +18,10 @@ public interface SupplierServicePort {
      * If candidate.id is null → creates a new supplier (quick-add).
      */
     SupplierDomain findOrCreate(SupplierDomain candidate, UUID ownerId);
+
+    /**
+     * Returns the subset of {@code ids} that are live suppliers of the owner.
+     * One round trip for a whole import batch.
+     */
+    Set<UUID> findOwnedIds(Collection<UUID> ids, UUID ownerId);
 }
@@ -2,7 +2,9 @@ package com.beet.backend.modules.supplier.domain.spi;
 
 import com.beet.backend.modules.supplier.domain.model.SupplierDomain;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface SupplierPersistencePort {
@@ -12,4 +14,6 @@ public interface SupplierPersistencePort {
     Optional<SupplierDomain> findById(UUID id);
 
     boolean existsByOwnerAndDocument(UUID ownerId, UUID documentTypeId, String documentNumber);
+
+    Set<UUID> findOwnedIds(Collection<UUID> ids, UUID ownerId);
 }
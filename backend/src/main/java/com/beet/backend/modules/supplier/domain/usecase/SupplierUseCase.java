@@ -9,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -37,4 +39,12 @@ public class SupplierUseCase implements SupplierServicePort {
         candidate.setIsActive(true);
         return persistencePort.save(candidate);
     }
+
+    @Override
+    public Set<UUID> findOwnedIds(Collection<UUID> ids, UUID ownerId) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return persistencePort.findOwnedIds(ids, ownerId);
+    }
 }
@@ -7,7 +7,10 @@ import com.beet.backend.modules.supplier.infrastructure.output.persistence.jdbc.
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -32,4 +35,9 @@ public class SupplierJdbcAdapter implements SupplierPersistencePort {
     public boolean existsByOwnerAndDocument(UUID ownerId, UUID documentTypeId, String documentNumber) {
         return repository.existsByOwnerIdAndDocumentTypeIdAndDocumentNumber(ownerId, documentTypeId, documentNumber);
     }
+
+    @Override
+    public Set<UUID> findOwnedIds(Collection<UUID> ids, UUID ownerId) {
+        return new HashSet<>(repository.findOwnedIds(ids, ownerId));
+    }
 }
@@ -1,13 +1,20 @@
 package com.beet.backend.modules.supplier.infrastructure.output.persistence.jdbc.repository;
 
 import com.beet.backend.modules.supplier.infrastructure.output.persistence.jdbc.aggregate.SupplierAggregate;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface SupplierJdbcRepository extends ListCrudRepository<SupplierAggregate, UUID> {
 
     boolean existsByOwnerIdAndDocumentTypeIdAndDocumentNumber(UUID ownerId, UUID documentTypeId, String documentNumber);
+
+    @Query("SELECT id FROM suppliers WHERE owner_id = :ownerId AND id IN (:ids) AND deleted_at IS NULL")
+    List<UUID> findOwnedIds(@Param("ids") Collection<UUID> ids, @Param("ownerId") UUID ownerId);
 }
@@ -0,0 +1,20 @@
+package com.beet.backend.modules.unit.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UnitConversionRequest(
+        @NotEmpty @Size(max = 10000, message = "At most 10000 conversions per request")
+        List<@Valid @NotNull Conversion> conversions) {
+
+    public record Conversion(
+            @NotNull(message = "Source unit is required") UUID fromUnitId,
+            @NotNull(message = "Target unit is required") UUID toUnitId,
+            @NotNull(message = "Quantity is required") Double quantity) {
+    }
+}
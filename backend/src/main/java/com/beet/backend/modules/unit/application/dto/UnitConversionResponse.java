@@ -0,0 +1,7 @@
+package com.beet.backend.modules.unit.application.dto;
+
+/**
+ * Converted quantities, in the same order as the request's conversions.
+ */
+public record UnitConversionResponse(double[] quantities) {
+}
@@ -1,5 +1,7 @@
 package com.beet.backend.modules.unit.application.handler;
 
+import com.beet.backend.modules.unit.application.dto.UnitConversionRequest;
+import com.beet.backend.modules.unit.application.dto.UnitConversionResponse;
 import com.beet.backend.modules.unit.application.dto.UnitResponse;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
 
@@ -8,4 +10,6 @@ import java.util.List;
 public interface UnitHandler {
 
     ApiGenericResponse<List<UnitResponse>> getAllUnits();
+
+    ApiGenericResponse<UnitConversionResponse> convert(UnitConversionRequest request);
 }
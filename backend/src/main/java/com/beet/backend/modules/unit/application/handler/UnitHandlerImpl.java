@@ -1,8 +1,11 @@
 package com.beet.backend.modules.unit.application.handler;
 
+import com.beet.backend.modules.unit.application.dto.UnitConversionRequest;
+import com.beet.backend.modules.unit.application.dto.UnitConversionResponse;
 import com.beet.backend.modules.unit.application.dto.UnitResponse;
 import com.beet.backend.modules.unit.application.mapper.UnitServiceMapper;
 import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.modules.unit.domain.model.UnitConversionMatrix;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -23,4 +26,17 @@ public class UnitHandlerImpl implements UnitHandler {
                 .toList();
         return ApiGenericResponse.success(response);
     }
+
+    @Override
+    public ApiGenericResponse<UnitConversionResponse> convert(UnitConversionRequest request) {
+        // One matrix for the whole batch, so a reload can't mix factors mid-request
+        UnitConversionMatrix matrix = servicePort.getConversionMatrix();
+        List<UnitConversionRequest.Conversion> conversions = request.conversions();
+        double[] quantities = new double[conversions.size()];
+        for (int i = 0; i < quantities.length; i++) {
+            UnitConversionRequest.Conversion conversion = conversions.get(i);
+            quantities[i] = matrix.convert(conversion.quantity(), conversion.fromUnitId(), conversion.toUnitId());
+        }
+        return ApiGenericResponse.success(new UnitConversionResponse(quantities));
+    }
 }
@@ -1,5 +1,6 @@
 package com.beet.backend.modules.unit.domain.api;
 
+import com.beet.backend.modules.unit.domain.model.UnitConversionMatrix;
 import com.beet.backend.modules.unit.domain.model.UnitDomain;
 
 import java.util.List;
@@ -7,12 +8,22 @@ import java.util.UUID;
 
 /**
  * Service port for read-only access to units.
+ * Served from memory; units are seed data, so nothing here queries the database.
  */
 public interface UnitServicePort {
 
     /** Returns all units with their factorToBase resolved. */
     List<UnitDomain> getAllUnits();
 
-    /** Returns a single unit by id with its factorToBase resolved. */
+    /** Returns a single unit by id with its factorToBase resolved, or null. */
     UnitDomain findById(UUID id);
+
+    /** Returns a unit by abbreviation, ignoring case ("KG" finds kg), or null. */
+    UnitDomain findByAbbreviation(String abbreviation);
+
+    /** Factors between every pair of units of the same type, rebuilt with the registry. */
+    UnitConversionMatrix getConversionMatrix();
+
+    /** Reloads the registry after units or unit_conversions change. */
+    void reload();
 }
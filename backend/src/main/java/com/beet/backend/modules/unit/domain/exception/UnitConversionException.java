@@ -0,0 +1,19 @@
+package com.beet.backend.modules.unit.domain.exception;
+
+import java.util.UUID;
+
+public class UnitConversionException extends RuntimeException {
+
+    private UnitConversionException(String message) {
+        super(message);
+    }
+
+    public static UnitConversionException unknownUnit(UUID unitId) {
+        return new UnitConversionException("Unit not found with id: " + unitId);
+    }
+
+    public static UnitConversionException incompatible(String fromUnit, String fromType, String toUnit, String toType) {
+        return new UnitConversionException("Cannot convert " + fromUnit + " (" + fromType + ") to " + toUnit
+                + " (" + toType + "). Both must be the same category (MASS↔MASS, VOLUME↔VOLUME).");
+    }
+}
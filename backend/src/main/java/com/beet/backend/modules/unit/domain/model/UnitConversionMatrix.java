@@ -0,0 +1,103 @@
+package com.beet.backend.modules.unit.domain.model;
+
+import com.beet.backend.modules.unit.domain.exception.UnitConversionException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Every unit-to-unit factor, precomputed once per unit registry load.
+ * <p>
+ * Units get an ordinal within their {@link UnitType}, and each type holds a dense
+ * {@code double[from][to]} table, so a conversion is an id lookup plus an array read
+ * instead of BigDecimal math through the base unit. Hot loops can resolve ordinals
+ * once and call {@link #factor(UnitType, int, int)} directly.
+ */
+public final class UnitConversionMatrix {
+
+    public static final UnitConversionMatrix EMPTY = of(List.of());
+
+    private final Map<UUID, Slot> slots;
+    private final Map<UnitType, double[][]> factors;
+
+    private UnitConversionMatrix(Map<UUID, Slot> slots, Map<UnitType, double[][]> factors) {
+        this.slots = slots;
+        this.factors = factors;
+    }
+
+    public static UnitConversionMatrix of(List<UnitDomain> units) {
+        Map<UnitType, List<UnitDomain>> byType = new EnumMap<>(UnitType.class);
+        Map<UUID, Slot> slots = new HashMap<>();
+        for (UnitDomain unit : units) {
+            List<UnitDomain> ofType = byType.computeIfAbsent(unit.getType(), type -> new ArrayList<>());
+            slots.put(unit.getId(), new Slot(unit, ofType.size()));
+            ofType.add(unit);
+        }
+
+        // factor[from][to] = from.factorToBase / to.factorToBase, e.g. lb453→kg = 453.592 / 1000
+        // (factors as seeded in V2).
+        // Divided in BigDecimal and rounded once, so chained factors don't accumulate error.
+        Map<UnitType, double[][]> factors = new EnumMap<>(UnitType.class);
+        byType.forEach((type, ofType) -> {
+            int size = ofType.size();
+            double[][] table = new double[size][size];
+            for (int from = 0; from < size; from++) {
+                BigDecimal fromFactor = ofType.get(from).getFactorToBase();
+                for (int to = 0; to < size; to++) {
+                    table[from][to] = fromFactor.divide(ofType.get(to).getFactorToBase(), MathContext.DECIMAL64)
+                            .doubleValue();
+                }
+            }
+            factors.put(type, table);
+        });
+        return new UnitConversionMatrix(Map.copyOf(slots), factors);
+    }
+
+    /** Position of the unit within its type's table. */
+    public int ordinal(UUID unitId) {
+        return slot(unitId).ordinal();
+    }
+
+    public UnitType typeOf(UUID unitId) {
+        return slot(unitId).unit().getType();
+    }
+
+    /** Multiplier that turns a quantity in {@code fromUnitId} into {@code toUnitId}. */
+    public double factor(UUID fromUnitId, UUID toUnitId) {
+        Slot from = slot(fromUnitId);
+        Slot to = slot(toUnitId);
+        UnitType type = from.unit().getType();
+        if (type != to.unit().getType()) {
+            throw UnitConversionException.incompatible(
+                    from.unit().getAbbreviation(), type.name(),
+                    to.unit().getAbbreviation(), to.unit().getType().name());
+        }
+        return factors.get(type)[from.ordinal()][to.ordinal()];
+    }
+
+    public double convert(double quantity, UUID fromUnitId, UUID toUnitId) {
+        return quantity * factor(fromUnitId, toUnitId);
+    }
+
+    /** Unchecked fast path: ordinals must come from {@link #ordinal(UUID)} for units of {@code type}. */
+    public double factor(UnitType type, int fromOrdinal, int toOrdinal) {
+        return factors.get(type)[fromOrdinal][toOrdinal];
+    }
+
+    private Slot slot(UUID unitId) {
+        Slot slot = unitId == null ? null : slots.get(unitId);
+        if (slot == null) {
+            throw UnitConversionException.unknownUnit(unitId);
+        }
+        return slot;
+    }
+
+    private record Slot(UnitDomain unit, int ordinal) {
+    }
+}
@@ -5,16 +5,16 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+/** Immutable: instances are shared by the in-memory unit registry. */
 @Getter
-@Setter
 @ToString
 @Builder
 @AllArgsConstructor
 public class UnitDomain {
     private final UUID id;
-    private String name;
-    private String abbreviation;
-    private UnitType type;
-    private BigDecimal factorToBase; // 1 for base units, conversion factor for derived
-    private Boolean isBase;
+    private final String name;
+    private final String abbreviation;
+    private final UnitType type;
+    private final BigDecimal factorToBase; // 1 for base units, conversion factor for derived
+    private final Boolean isBase;
 }
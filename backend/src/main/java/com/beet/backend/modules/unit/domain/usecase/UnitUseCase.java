@@ -1,32 +1,97 @@
 package com.beet.backend.modules.unit.domain.usecase;
 
 import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.modules.unit.domain.model.UnitConversionMatrix;
 import com.beet.backend.modules.unit.domain.model.UnitDomain;
 import com.beet.backend.modules.unit.domain.spi.UnitPersistencePort;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * In-memory unit registry. Units and their conversions are seed data (V2), so they
+ * are loaded once at startup with factorToBase resolved, and every lookup is a map
+ * read against an immutable snapshot, together with the precomputed conversion
+ * matrix. Unlike the role catalog a miss does not go to the database: an unknown
+ * id is simply unknown until {@link #reload()}.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class UnitUseCase implements UnitServicePort {
 
     private final UnitPersistencePort persistencePort;
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    @Override
+    public synchronized void reload() {
+        snapshot = Snapshot.of(persistencePort.findAllWithConversions());
+        log.info("Unit registry loaded with {} units", snapshot.all().size());
+    }
 
     @Override
     public List<UnitDomain> getAllUnits() {
-        return persistencePort.findAllWithConversions();
+        return snapshot().all();
     }
 
     @Override
     public UnitDomain findById(UUID id) {
-        return getAllUnits().stream()
-                .filter(u -> u.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return id == null ? null : snapshot().byId().get(id);
+    }
+
+    @Override
+    public UnitDomain findByAbbreviation(String abbreviation) {
+        return abbreviation == null ? null : snapshot().byAbbreviation().get(key(abbreviation));
+    }
+
+    @Override
+    public UnitConversionMatrix getConversionMatrix() {
+        return snapshot().matrix();
+    }
+
+    /** Loads on first use when a lookup runs before the application is ready. */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static String key(String abbreviation) {
+        return abbreviation.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(List<UnitDomain> all, Map<UUID, UnitDomain> byId,
+            Map<String, UnitDomain> byAbbreviation, UnitConversionMatrix matrix) {
+
+        static Snapshot of(List<UnitDomain> units) {
+            Map<UUID, UnitDomain> byId = new HashMap<>();
+            Map<String, UnitDomain> byAbbreviation = new HashMap<>();
+            for (UnitDomain unit : units) {
+                byId.put(unit.getId(), unit);
+                byAbbreviation.put(key(unit.getAbbreviation()), unit);
+            }
+            return new Snapshot(List.copyOf(units), Map.copyOf(byId), Map.copyOf(byAbbreviation),
+                    UnitConversionMatrix.of(units));
+        }
     }
 }
@@ -1,8 +1,11 @@
 package com.beet.backend.modules.unit.infrastructure.input.rest;
 
+import com.beet.backend.modules.unit.application.dto.UnitConversionRequest;
+import com.beet.backend.modules.unit.application.dto.UnitConversionResponse;
 import com.beet.backend.modules.unit.application.dto.UnitResponse;
 import com.beet.backend.modules.unit.application.handler.UnitHandler;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,4 +26,14 @@ public class UnitController {
     public ResponseEntity<ApiGenericResponse<List<UnitResponse>>> getUnits() {
         return ResponseEntity.ok(handler.getAllUnits());
     }
+
+    /**
+     * POST /units/convert — converts a batch of quantities between units of the same
+     * type, answered in request order from the precomputed conversion matrix.
+     */
+    @PostMapping("/convert")
+    public ResponseEntity<ApiGenericResponse<UnitConversionResponse>> convert(
+            @Valid @RequestBody UnitConversionRequest request) {
+        return ResponseEntity.ok(handler.convert(request));
+    }
 }
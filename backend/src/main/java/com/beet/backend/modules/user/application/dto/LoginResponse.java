@@ -3,5 +3,5 @@ package com.beet.backend.modules.user.application.dto;
 import lombok.Builder;
 
 @Builder
-public record LoginResponse(String token, UserResponse user) {
+public record LoginResponse(String token, UserResponse user, String refreshToken) {
 }
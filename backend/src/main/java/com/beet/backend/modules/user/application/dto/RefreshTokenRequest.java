@@ -0,0 +1,10 @@
+package com.beet.backend.modules.user.application.dto;
+
+import static com.beet.backend.modules.user.domain.constants.UserValidationConstants.*;
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+
+    @NotBlank(message = REFRESH_TOKEN_REQUIRED)
+    String refreshToken) {
+}
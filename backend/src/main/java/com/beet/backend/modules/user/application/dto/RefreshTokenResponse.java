@@ -0,0 +1,7 @@
+package com.beet.backend.modules.user.application.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RefreshTokenResponse(String token, String refreshToken) {
+}
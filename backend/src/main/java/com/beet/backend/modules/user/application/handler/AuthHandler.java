@@ -6,9 +6,13 @@ import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
 
 import com.beet.backend.modules.user.application.dto.LoginRequest;
 import com.beet.backend.modules.user.application.dto.LoginResponse;
+import com.beet.backend.modules.user.application.dto.RefreshTokenRequest;
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
 
 public interface AuthHandler {
     ApiGenericResponse<UserResponse> register(RegisterUserRequest request);
 
     ApiGenericResponse<LoginResponse> login(LoginRequest request);
+
+    ApiGenericResponse<RefreshTokenResponse> refresh(RefreshTokenRequest request);
 }
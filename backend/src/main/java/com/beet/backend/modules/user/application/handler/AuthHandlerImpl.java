@@ -2,10 +2,13 @@ package com.beet.backend.modules.user.application.handler;
 
 import com.beet.backend.modules.user.application.dto.LoginRequest;
 import com.beet.backend.modules.user.application.dto.LoginResponse;
+import com.beet.backend.modules.user.application.dto.RefreshTokenRequest;
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
 import com.beet.backend.modules.user.application.dto.RegisterUserRequest;
 import com.beet.backend.modules.user.application.dto.UserResponse;
 import com.beet.backend.modules.user.application.mapper.UserServiceMapper;
 import com.beet.backend.modules.user.domain.api.LoginUserServicePort;
+import com.beet.backend.modules.user.domain.api.RefreshTokenServicePort;
 import com.beet.backend.modules.user.domain.model.User;
 import com.beet.backend.modules.user.domain.usecase.RegisterUserUseCase;
 import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
@@ -19,6 +22,7 @@ public class AuthHandlerImpl implements AuthHandler {
     private final UserServiceMapper userServiceMapper;
     private final RegisterUserUseCase registerUserUseCase;
     private final LoginUserServicePort loginUserUseCase;
+    private final RefreshTokenServicePort refreshTokenUseCase;
 
     @Override
     public ApiGenericResponse<UserResponse> register(RegisterUserRequest request) {
@@ -32,4 +36,10 @@ public class AuthHandlerImpl implements AuthHandler {
         LoginResponse response = loginUserUseCase.login(request.email(), request.password());
         return ApiGenericResponse.success(response);
     }
+
+    @Override
+    public ApiGenericResponse<RefreshTokenResponse> refresh(RefreshTokenRequest request) {
+        RefreshTokenResponse response = refreshTokenUseCase.refresh(request.refreshToken());
+        return ApiGenericResponse.success(response);
+    }
 }
@@ -0,0 +1,12 @@
+package com.beet.backend.modules.user.domain.api;
+
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
+import com.beet.backend.modules.user.domain.model.User;
+
+public interface RefreshTokenServicePort {
+
+    String issue(User user);
+
+    RefreshTokenResponse refresh(String refreshToken);
+
+}
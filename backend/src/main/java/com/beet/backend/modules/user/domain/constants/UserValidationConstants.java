@@ -14,4 +14,5 @@ public final class UserValidationConstants {
     public static final String PHONE_NUMBER_REQUIRED = "Phone number is required";
     public static final String USERNAME_REQUIRED = "Username is required";
     public static final String PLAN_ID_REQUIRED = "Subscription Plan ID is required";
+    public static final String REFRESH_TOKEN_REQUIRED = "Refresh token is required";
 }
@@ -0,0 +1,19 @@
+package com.beet.backend.modules.user.domain.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    private static final String INVALID = "Refresh token is invalid or expired";
+    private static final String REUSED = "Refresh token was already used, all sessions have been revoked";
+
+    private InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+
+    public static InvalidRefreshTokenException invalid() {
+        return new InvalidRefreshTokenException(INVALID);
+    }
+
+    public static InvalidRefreshTokenException reused() {
+        return new InvalidRefreshTokenException(REUSED);
+    }
+}
@@ -0,0 +1,22 @@
+package com.beet.backend.modules.user.domain.model;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+public class RefreshToken {
+    private final UUID id;
+    private final UUID userId;
+    private final String tokenHash; // SHA-256 of the raw token, the raw value is never persisted
+    private final Instant expiresAt;
+    private final Instant revokedAt;
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+}
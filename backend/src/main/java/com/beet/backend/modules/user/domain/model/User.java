@@ -27,6 +27,9 @@ public class User {
     // Reference to Plan
     private UUID subscriptionPlanId;
 
+    // Stamped into access tokens; bumped to revoke them
+    private int tokenVersion;
+
     public String getFullName() {
         StringBuilder sb = new StringBuilder();
         if (firstName != null)
@@ -0,0 +1,25 @@
+package com.beet.backend.modules.user.domain.spi;
+
+import com.beet.backend.modules.user.domain.model.RefreshToken;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenPersistencePort {
+    RefreshToken save(RefreshToken refreshToken);
+
+    /**
+     * Atomically revokes an active, unexpired token and returns its owner.
+     * Empty when the token is unknown, expired or was already used.
+     */
+    Optional<UUID> consume(String tokenHash);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    void revokeAllByUserId(UUID userId);
+
+    /**
+     * Deletes expired tokens, rotated or not, and returns how many were removed.
+     */
+    int deleteExpired();
+}
@@ -6,17 +6,23 @@ import java.util.Optional;
 import java.util.UUID;
 
 public interface UserPersistencePort {
+    /**
+     * Inserts or updates the user. Throws {@code UserAlreadyExistsException} when the email,
+     * username or phone number is taken and {@code SubscriptionPlanNotFoundException} when
+     * the plan does not exist.
+     */
     User save(User user);
 
     Optional<User> findById(UUID id);
 
-    boolean existsByEmail(String email);
+    /**
+     * Like {@link #findById(UUID)}, but empty for soft-deleted users.
+     */
+    Optional<User> findActiveById(UUID id);
 
     Optional<User> findByEmail(String email);
 
-    boolean existsByUsername(String username);
+    Optional<Integer> findTokenVersion(UUID id);
 
-    boolean existsByPhoneNumber(String phoneNumber);
-
-    boolean existsSubscriptionPlan(UUID subscriptionPlanId);
+    void incrementTokenVersion(UUID id);
 }
@@ -0,0 +1,11 @@
+package com.beet.backend.modules.user.domain.spi;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface UserRoleGateway {
+    /**
+     * Role held by the user in each restaurant, keyed by restaurant id.
+     */
+    Map<UUID, UUID> getRestaurantRoles(UUID userId);
+}
@@ -3,39 +3,45 @@ package com.beet.backend.modules.user.domain.usecase;
 import com.beet.backend.modules.user.application.dto.LoginResponse;
 import com.beet.backend.modules.user.application.mapper.UserServiceMapper;
 import com.beet.backend.modules.user.domain.api.LoginUserServicePort;
+import com.beet.backend.modules.user.domain.api.RefreshTokenServicePort;
 import com.beet.backend.modules.user.domain.model.User;
 import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserRoleGateway;
 import com.beet.backend.shared.infrastructure.security.CustomUserDetails;
 import com.beet.backend.shared.infrastructure.security.JwtService;
+import com.beet.backend.shared.infrastructure.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class LoginUserUseCaseImpl implements LoginUserServicePort {
 
-    private final AuthenticationManager authenticationManager;
     private final UserPersistencePort userPersistencePort;
+    private final UserRoleGateway userRoleGateway;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtService jwtService;
+    private final RefreshTokenServicePort refreshTokenServicePort;
     private final UserServiceMapper userServiceMapper;
 
     @Override
     public LoginResponse login(String email, String password) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        email,
-                        password));
+        // Single lookup: the same user feeds the password check and the token
+        User user = userPersistencePort.findByEmail(email).orElse(null);
+        String passwordHash = user != null ? user.getPasswordHash() : null;
 
-        User user = userPersistencePort.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        if (!passwordHashingExecutor.matches(password, passwordHash)) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-        var userDetails = new CustomUserDetails(user);
+        // Restaurant roles are signed into the token so per-request role checks stay in memory
+        var userDetails = new CustomUserDetails(user, userRoleGateway.getRestaurantRoles(user.getId()));
 
         String jwtToken = jwtService.generateToken(userDetails);
 
-        return new LoginResponse(jwtToken, userServiceMapper.toResponse(user));
+        String refreshToken = refreshTokenServicePort.issue(user);
+
+        return new LoginResponse(jwtToken, userServiceMapper.toResponse(user), refreshToken);
     }
 }
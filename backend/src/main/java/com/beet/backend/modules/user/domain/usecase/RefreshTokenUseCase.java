@@ -0,0 +1,141 @@
+package com.beet.backend.modules.user.domain.usecase;
+
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
+import com.beet.backend.modules.user.domain.api.RefreshTokenServicePort;
+import com.beet.backend.modules.user.domain.exception.InvalidRefreshTokenException;
+import com.beet.backend.modules.user.domain.model.RefreshToken;
+import com.beet.backend.modules.user.domain.model.User;
+import com.beet.backend.modules.user.domain.spi.RefreshTokenPersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserRoleGateway;
+import com.beet.backend.shared.infrastructure.security.CustomUserDetails;
+import com.beet.backend.shared.infrastructure.security.JwtService;
+import com.beet.backend.shared.infrastructure.security.RefreshTokenGenerator;
+import com.beet.backend.shared.infrastructure.security.TokenVersionValidator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens. Every refresh consumes the presented token and issues a new one;
+ * presenting an already rotated token revokes the whole family for that user.
+ * <p>
+ * The user snapshot taken when a token is issued is kept in memory under the token hash,
+ * so the common refresh costs the consume statement, the role lookup and the insert of its replacement.
+ * <p>
+ * Rotated rows stay until they expire, since reuse detection needs them; a periodic purge
+ * then deletes every expired row.
+ */
+@Slf4j
+@Service
+public class RefreshTokenUseCase implements RefreshTokenServicePort {
+
+    private final RefreshTokenPersistencePort refreshTokenPersistencePort;
+    private final UserPersistencePort userPersistencePort;
+    private final UserRoleGateway userRoleGateway;
+    private final RefreshTokenGenerator refreshTokenGenerator;
+    private final TokenVersionValidator tokenVersionValidator;
+    private final JwtService jwtService;
+    private final Cache<String, User> sessions;
+
+    public RefreshTokenUseCase(
+            RefreshTokenPersistencePort refreshTokenPersistencePort,
+            UserPersistencePort userPersistencePort,
+            UserRoleGateway userRoleGateway,
+            RefreshTokenGenerator refreshTokenGenerator,
+            TokenVersionValidator tokenVersionValidator,
+            JwtService jwtService,
+            @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration,
+            @Value("${application.security.jwt.refresh-token.cache-size:10000}") long cacheSize) {
+        this.refreshTokenPersistencePort = refreshTokenPersistencePort;
+        this.userPersistencePort = userPersistencePort;
+        this.userRoleGateway = userRoleGateway;
+        this.refreshTokenGenerator = refreshTokenGenerator;
+        this.tokenVersionValidator = tokenVersionValidator;
+        this.jwtService = jwtService;
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshExpiration))
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public String issue(User user) {
+        String rawToken = refreshTokenGenerator.generate();
+        String tokenHash = refreshTokenGenerator.hash(rawToken);
+
+        refreshTokenPersistencePort.save(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(tokenHash)
+                .expiresAt(refreshTokenGenerator.expiresAt())
+                .build());
+        sessions.put(tokenHash, user);
+
+        return rawToken;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RefreshTokenResponse refresh(String refreshToken) {
+        String tokenHash = refreshTokenGenerator.hash(refreshToken);
+
+        UUID userId = refreshTokenPersistencePort.consume(tokenHash)
+                .orElseThrow(() -> rejectToken(tokenHash));
+
+        User user = resolveUser(tokenHash, userId);
+        sessions.invalidate(tokenHash);
+
+        // Roles are re-read on every refresh so restaurants assigned since login reach the new token
+        var principal = new CustomUserDetails(user, userRoleGateway.getRestaurantRoles(userId));
+        String accessToken = jwtService.generateToken(principal);
+        return new RefreshTokenResponse(accessToken, issue(user));
+    }
+
+    /**
+     * Uses the snapshot cached at issue time while the account is unchanged;
+     * a bumped token version or a cache miss (restart, other node) reloads the user.
+     * A soft-deleted user gets no new tokens.
+     */
+    private User resolveUser(String tokenHash, UUID userId) {
+        User cached = sessions.getIfPresent(tokenHash);
+        if (cached != null && cached.getId().equals(userId)
+                && tokenVersionValidator.isCurrent(userId, cached.getTokenVersion())) {
+            return cached;
+        }
+        return userPersistencePort.findActiveById(userId)
+                .orElseThrow(InvalidRefreshTokenException::invalid);
+    }
+
+    /**
+     * Removes expired tokens. By then a rotated token can no longer be presented as valid,
+     * so its row has no reuse left to detect.
+     */
+    @Scheduled(fixedDelayString = "${application.security.jwt.refresh-token.purge-interval:1h}")
+    public void purgeExpired() {
+        int deleted = refreshTokenPersistencePort.deleteExpired();
+        if (deleted > 0) {
+            log.debug("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private InvalidRefreshTokenException rejectToken(String tokenHash) {
+        sessions.invalidate(tokenHash);
+        return refreshTokenPersistencePort.findByTokenHash(tokenHash)
+                .filter(RefreshToken::isRevoked)
+                .map(token -> {
+                    // A rotated token came back: assume it leaked and end every session of the user
+                    log.warn("Refresh token reuse detected for user {}", token.getUserId());
+                    refreshTokenPersistencePort.revokeAllByUserId(token.getUserId());
+                    return InvalidRefreshTokenException.reused();
+                })
+                .orElseGet(InvalidRefreshTokenException::invalid);
+    }
+}
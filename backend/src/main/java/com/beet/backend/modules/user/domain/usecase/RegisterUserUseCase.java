@@ -1,7 +1,6 @@
 package com.beet.backend.modules.user.domain.usecase;
 
 import com.beet.backend.modules.user.domain.api.RegisterUserServicePort;
-import com.beet.backend.modules.user.domain.exception.UserAlreadyExistsException;
 import com.beet.backend.modules.user.domain.model.User;
 import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
 import com.beet.backend.modules.subscription.domain.exception.SubscriptionPlanNotFoundException;
@@ -21,26 +20,16 @@ public class RegisterUserUseCase implements RegisterUserServicePort {
     @Transactional
     @Override
     public User register(User user) {
-        // 1. Check Duplicates
-        if (userPersistencePort.existsByEmail(user.getEmail())) {
-            throw UserAlreadyExistsException.forEmail(user.getEmail());
-        }
-        if (userPersistencePort.existsByUsername(user.getUsername())) {
-            throw UserAlreadyExistsException.forUsername(user.getUsername());
-        }
-        if (userPersistencePort.existsByPhoneNumber(user.getPhoneNumber())) {
-            throw UserAlreadyExistsException.forPhoneNumber(user.getPhoneNumber());
-        }
-
-        // TODO: 2. Validate Plan, this needs to come from subscription plan service
-        if (!userPersistencePort.existsSubscriptionPlan(user.getSubscriptionPlanId())) {
-            throw SubscriptionPlanNotFoundException.forId(user.getSubscriptionPlanId());
+        // 1. Duplicates and unknown plans are not pre-checked: the insert below reports them
+        // through the users constraints, which also holds for concurrent signups
+        if (user.getSubscriptionPlanId() == null) {
+            throw SubscriptionPlanNotFoundException.forId(null);
         }
 
-        // 3. Hash Password
+        // 2. Hash Password
         String encodedPassword = passwordEncoder.encode(user.getPassword());
 
-        // 4. Create Domain Object
+        // 3. Create Domain Object
         // Database generates UUID. OwnerId is null (signifying root owner).
 
         User newUser = User.builder()
@@ -57,7 +46,7 @@ public class RegisterUserUseCase implements RegisterUserServicePort {
                 .ownerId(null) // Null signifies they ARE the owner (root)
                 .build();
 
-        // 5. Save
+        // 4. Save; throws UserAlreadyExistsException or SubscriptionPlanNotFoundException
         return userPersistencePort.save(newUser);
     }
 }
@@ -2,6 +2,8 @@ package com.beet.backend.modules.user.infrastructure.input.rest;
 
 import com.beet.backend.modules.user.application.dto.LoginRequest;
 import com.beet.backend.modules.user.application.dto.LoginResponse;
+import com.beet.backend.modules.user.application.dto.RefreshTokenRequest;
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
 import com.beet.backend.modules.user.application.dto.RegisterUserRequest;
 import com.beet.backend.modules.user.application.dto.UserResponse;
 import com.beet.backend.modules.user.application.handler.AuthHandler;
@@ -33,4 +35,9 @@ public class AuthController {
     public ResponseEntity<ApiGenericResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
         return ResponseEntity.ok(authHandler.login(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiGenericResponse<RefreshTokenResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authHandler.refresh(request));
+    }
 }
@@ -0,0 +1,24 @@
+package com.beet.backend.modules.user.infrastructure.output.adapter;
+
+import com.beet.backend.modules.role.domain.model.UserRoleDTO;
+import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserRoleGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class UserRoleGatewayAdapter implements UserRoleGateway {
+
+    private final RolePersistencePort rolePersistencePort;
+
+    @Override
+    public Map<UUID, UUID> getRestaurantRoles(UUID userId) {
+        return rolePersistencePort.findUserRoles(userId).stream()
+                .collect(Collectors.toMap(UserRoleDTO::restaurantId, UserRoleDTO::roleId, (first, second) -> first));
+    }
+}
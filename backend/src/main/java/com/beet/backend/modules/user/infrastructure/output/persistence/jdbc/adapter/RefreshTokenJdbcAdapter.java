@@ -0,0 +1,62 @@
+package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.adapter;
+
+import com.beet.backend.modules.user.domain.model.RefreshToken;
+import com.beet.backend.modules.user.domain.spi.RefreshTokenPersistencePort;
+import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.mapper.RefreshTokenAggregateMapper;
+import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.repository.RefreshTokenJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenJdbcAdapter implements RefreshTokenPersistencePort {
+
+    private final RefreshTokenJdbcRepository repository;
+    private final RefreshTokenAggregateMapper mapper;
+    private final JdbcClient jdbcClient;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        var saved = repository.save(mapper.toAggregate(refreshToken));
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    public Optional<UUID> consume(String tokenHash) {
+        // Lookup and revocation in one indexed statement: two concurrent refreshes
+        // with the same token cannot both succeed
+        return jdbcClient.sql("""
+                UPDATE refresh_tokens
+                SET revoked_at = NOW()
+                WHERE token_hash = :tokenHash
+                  AND revoked_at IS NULL
+                  AND expires_at > NOW()
+                RETURNING user_id
+                """)
+                .param("tokenHash", tokenHash)
+                .query(UUID.class)
+                .optional();
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return repository.findByTokenHash(tokenHash).map(mapper::toDomain);
+    }
+
+    @Override
+    public void revokeAllByUserId(UUID userId) {
+        jdbcClient.sql("UPDATE refresh_tokens SET revoked_at = NOW() WHERE user_id = :userId AND revoked_at IS NULL")
+                .param("userId", userId)
+                .update();
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jdbcClient.sql("DELETE FROM refresh_tokens WHERE expires_at <= NOW()")
+                .update();
+    }
+}
@@ -1,28 +1,59 @@
 package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.adapter;
 
+import com.beet.backend.modules.subscription.domain.exception.SubscriptionPlanNotFoundException;
+import com.beet.backend.modules.user.domain.exception.UserAlreadyExistsException;
 import com.beet.backend.modules.user.domain.model.User;
 import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
 import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.aggregate.UserAggregate;
 import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.mapper.UserAggregateMapper;
 import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.repository.UserJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
 public class UserJdbcAdapter implements UserPersistencePort {
 
+    /**
+     * Constraints on users that a caller can violate, and the domain error each one means.
+     * The unique names are the PostgreSQL defaults for the UNIQUE columns in V1.
+     */
+    private static final Map<String, Function<User, RuntimeException>> CONSTRAINT_VIOLATIONS = Map.of(
+            "users_email_key", user -> UserAlreadyExistsException.forEmail(user.getEmail()),
+            "users_username_key", user -> UserAlreadyExistsException.forUsername(user.getUsername()),
+            "users_phone_number_key", user -> UserAlreadyExistsException.forPhoneNumber(user.getPhoneNumber()),
+            "fk_users_plan", user -> SubscriptionPlanNotFoundException.forId(user.getSubscriptionPlanId()));
+
     private final UserJdbcRepository repository;
     private final UserAggregateMapper mapper;
 
+    /**
+     * Inserts or updates in one statement. Duplicates and unknown plans are left to the
+     * database constraints, which stay correct under concurrent signups, and are
+     * translated through {@link #CONSTRAINT_VIOLATIONS}.
+     */
     @Override
     public User save(User user) {
         UserAggregate aggregate = mapper.toAggregate(user);
-        UserAggregate saved = repository.save(aggregate);
-        return mapper.toDomain(saved);
+        try {
+            UserAggregate saved = repository.save(aggregate);
+            return mapper.toDomain(saved);
+        } catch (DataAccessException ex) {
+            String constraint = violatedConstraint(ex);
+            Function<User, RuntimeException> violation = constraint == null ? null : CONSTRAINT_VIOLATIONS.get(constraint);
+            if (violation == null) {
+                throw ex;
+            }
+            throw violation.apply(user);
+        }
     }
 
     @Override
@@ -31,8 +62,8 @@ public class UserJdbcAdapter implements UserPersistencePort {
     }
 
     @Override
-    public boolean existsByEmail(String email) {
-        return repository.existsByEmail(email);
+    public Optional<User> findActiveById(UUID id) {
+        return repository.findActiveById(id).map(mapper::toDomain);
     }
 
     @Override
@@ -42,17 +73,23 @@ public class UserJdbcAdapter implements UserPersistencePort {
     }
 
     @Override
-    public boolean existsByUsername(String username) {
-        return repository.existsByUsername(username);
+    public Optional<Integer> findTokenVersion(UUID id) {
+        return repository.findTokenVersionById(id);
     }
 
     @Override
-    public boolean existsByPhoneNumber(String phoneNumber) {
-        return repository.existsByPhoneNumber(phoneNumber);
+    public void incrementTokenVersion(UUID id) {
+        repository.incrementTokenVersion(id);
     }
 
-    @Override
-    public boolean existsSubscriptionPlan(UUID subscriptionPlanId) {
-        return repository.existsSubscriptionPlan(subscriptionPlanId);
+    /** Name of the constraint PostgreSQL reported, looked up through the wrapped causes. */
+    private static String violatedConstraint(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psqlException) {
+                ServerErrorMessage serverError = psqlException.getServerErrorMessage();
+                return serverError == null ? null : serverError.getConstraint();
+            }
+        }
+        return null;
     }
 }
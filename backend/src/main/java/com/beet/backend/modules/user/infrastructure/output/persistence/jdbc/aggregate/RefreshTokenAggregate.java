@@ -0,0 +1,23 @@
+package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.aggregate;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Table("refresh_tokens")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenAggregate {
+    @Id
+    private UUID id;
+
+    private UUID userId;
+    private String tokenHash;
+    private Instant expiresAt;
+    private Instant revokedAt;
+}
@@ -29,4 +29,6 @@ public class UserAggregate extends BaseAuditableAggregate {
     // Foreign Keys
     private UUID ownerId;
     private UUID subscriptionPlanId;
+
+    private int tokenVersion;
 }
@@ -0,0 +1,35 @@
+package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.mapper;
+
+import com.beet.backend.modules.user.domain.model.RefreshToken;
+import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.aggregate.RefreshTokenAggregate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenAggregateMapper {
+
+    public RefreshTokenAggregate toAggregate(RefreshToken refreshToken) {
+        if (refreshToken == null)
+            return null;
+
+        return RefreshTokenAggregate.builder()
+                .id(refreshToken.getId())
+                .userId(refreshToken.getUserId())
+                .tokenHash(refreshToken.getTokenHash())
+                .expiresAt(refreshToken.getExpiresAt())
+                .revokedAt(refreshToken.getRevokedAt())
+                .build();
+    }
+
+    public RefreshToken toDomain(RefreshTokenAggregate aggregate) {
+        if (aggregate == null)
+            return null;
+
+        return RefreshToken.builder()
+                .id(aggregate.getId())
+                .userId(aggregate.getUserId())
+                .tokenHash(aggregate.getTokenHash())
+                .expiresAt(aggregate.getExpiresAt())
+                .revokedAt(aggregate.getRevokedAt())
+                .build();
+    }
+}
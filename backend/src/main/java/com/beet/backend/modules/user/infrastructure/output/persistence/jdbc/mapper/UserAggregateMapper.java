@@ -23,6 +23,7 @@ public class UserAggregateMapper {
                 .username(user.getUsername())
                 .ownerId(user.getOwnerId())
                 .subscriptionPlanId(user.getSubscriptionPlanId())
+                .tokenVersion(user.getTokenVersion())
                 .build();
     }
 
@@ -42,6 +43,7 @@ public class UserAggregateMapper {
                 .username(aggregate.getUsername())
                 .ownerId(aggregate.getOwnerId())
                 .subscriptionPlanId(aggregate.getSubscriptionPlanId())
+                .tokenVersion(aggregate.getTokenVersion())
                 .build();
     }
 }
@@ -0,0 +1,13 @@
+package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.repository;
+
+import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.aggregate.RefreshTokenAggregate;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenJdbcRepository extends CrudRepository<RefreshTokenAggregate, UUID> {
+
+    Optional<RefreshTokenAggregate> findByTokenHash(String tokenHash);
+
+}
@@ -1,6 +1,7 @@
 package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.repository;
 
 import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.aggregate.UserAggregate;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -12,17 +13,15 @@ public interface UserJdbcRepository extends CrudRepository<UserAggregate, UUID>
 
     Optional<UserAggregate> findByEmail(String email);
 
-    boolean existsByEmail(String email);
+    @Query("SELECT * FROM users WHERE id = :id AND deleted_at IS NULL")
+    Optional<UserAggregate> findActiveById(@Param("id") UUID id);
 
-    boolean existsByUsername(String username);
+    // Lightweight revocation check used by the JWT filter instead of a full user load
+    @Query("SELECT token_version FROM users WHERE id = :id AND deleted_at IS NULL")
+    Optional<Integer> findTokenVersionById(@Param("id") UUID id);
 
-    boolean existsByPhoneNumber(String phoneNumber);
-
-    // TODO remover luego de implementar el servicio de suscripciones
-    // Check if a subscription plan exists.
-    // Since we don't have a specific SubscriptionAggregate yet in this module,
-    // we can use a raw query check against the 'subscription_plans' table.
-    @Query("SELECT COUNT(*) > 0 FROM subscription_plans WHERE id = :id")
-    boolean existsSubscriptionPlan(@Param("id") UUID id);
+    @Modifying
+    @Query("UPDATE users SET token_version = token_version + 1 WHERE id = :id")
+    void incrementTokenVersion(@Param("id") UUID id);
 
 }
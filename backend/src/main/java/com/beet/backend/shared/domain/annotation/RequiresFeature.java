@@ -0,0 +1,21 @@
+package com.beet.backend.shared.domain.annotation;
+
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Guards a controller method, or every method of a controller, with a plan entitlement
+ * of the caller's owner (the caller itself when they are an owner).
+ */
+@Documented
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresFeature {
+
+    PlanFeature value();
+}
@@ -0,0 +1,27 @@
+package com.beet.backend.shared.domain.annotation;
+
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Guards a controller method with a permission check on the restaurant addressed by the request.
+ * The restaurant id is read from the path variable or request parameter named
+ * {@link #restaurantIdParam()}, or from the {@code X-Restaurant-Id} header.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresPermission {
+
+    PermissionModule module();
+
+    PermissionAction action();
+
+    String restaurantIdParam() default "restaurantId";
+}
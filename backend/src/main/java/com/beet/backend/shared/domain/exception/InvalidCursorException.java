@@ -0,0 +1,19 @@
+package com.beet.backend.shared.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String MALFORMED = "Invalid pagination cursor";
+    private static final String SORT_MISMATCH = "Pagination cursor was issued for a different sort (%s)";
+
+    private InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public static InvalidCursorException malformed() {
+        return new InvalidCursorException(MALFORMED);
+    }
+
+    public static InvalidCursorException forSort(String sortKey) {
+        return new InvalidCursorException(String.format(SORT_MISMATCH, sortKey));
+    }
+}
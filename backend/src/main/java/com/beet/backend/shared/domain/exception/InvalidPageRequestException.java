@@ -0,0 +1,21 @@
+package com.beet.backend.shared.domain.exception;
+
+public class InvalidPageRequestException extends RuntimeException {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String INVALID_SIZE = "Page size must be between 1 and " + MAX_PAGE_SIZE + ": %d";
+    private static final String INVALID_PAGE = "Page number must not be negative: %d";
+
+    private InvalidPageRequestException(String message) {
+        super(message);
+    }
+
+    public static InvalidPageRequestException forSize(int size) {
+        return new InvalidPageRequestException(String.format(INVALID_SIZE, size));
+    }
+
+    public static InvalidPageRequestException forPage(int page) {
+        return new InvalidPageRequestException(String.format(INVALID_PAGE, page));
+    }
+}
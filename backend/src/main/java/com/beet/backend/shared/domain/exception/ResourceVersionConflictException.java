@@ -0,0 +1,7 @@
+package com.beet.backend.shared.domain.exception;
+
+public class ResourceVersionConflictException extends RuntimeException {
+    public ResourceVersionConflictException(String message) {
+        super(message);
+    }
+}
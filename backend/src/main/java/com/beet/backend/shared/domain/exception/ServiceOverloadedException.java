@@ -0,0 +1,14 @@
+package com.beet.backend.shared.domain.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    private static final String TEMPLATE = "%s is at capacity, retry shortly";
+
+    private ServiceOverloadedException(String message) {
+        super(message);
+    }
+
+    public static ServiceOverloadedException forResource(String resource) {
+        return new ServiceOverloadedException(String.format(TEMPLATE, resource));
+    }
+}
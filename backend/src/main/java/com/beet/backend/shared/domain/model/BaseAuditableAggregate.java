@@ -5,6 +5,7 @@ import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -24,6 +25,10 @@ public abstract class BaseAuditableAggregate {
     @LastModifiedBy
     private UUID updatedBy;
 
+    // Optimistic locking: null marks a new aggregate, every update increments it
+    @Version
+    private Long version;
+
     // Soft Delete Fields
     private Instant deletedAt;
     private UUID deletedBy;
@@ -0,0 +1,18 @@
+package com.beet.backend.shared.domain.spi;
+
+import java.util.UUID;
+
+/**
+ * Serializes plan-limited writes of a single owner (restaurants, employees, ...).
+ * <p>
+ * The lock is held until the surrounding transaction ends, so a use case acquires it
+ * first, then runs its check-then-insert. Requests of other owners are not blocked.
+ */
+public interface OwnerLockPort {
+
+    /**
+     * Blocks until no other transaction holds the lock of this owner.
+     * Must be called inside a transaction.
+     */
+    void lock(UUID ownerId);
+}
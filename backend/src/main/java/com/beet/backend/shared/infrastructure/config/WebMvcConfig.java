@@ -0,0 +1,22 @@
+package com.beet.backend.shared.infrastructure.config;
+
+import com.beet.backend.shared.infrastructure.security.RequiresFeatureInterceptor;
+import com.beet.backend.shared.infrastructure.security.RequiresPermissionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RequiresPermissionInterceptor requiresPermissionInterceptor;
+    private final RequiresFeatureInterceptor requiresFeatureInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requiresPermissionInterceptor);
+        registry.addInterceptor(requiresFeatureInterceptor);
+    }
+}
@@ -0,0 +1,24 @@
+package com.beet.backend.shared.infrastructure.input.rest;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated response: instead of a page number, the client passes back
+ * {@code nextCursor} to get the rows after the last one it has. No total is computed.
+ * Matches the frontend CursorPageResponse<T> TypeScript interface.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        int numberOfElements,
+        String nextCursor, // null on the last page
+        boolean last) {
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPageResponse<>(
+                content,
+                size,
+                content.size(),
+                nextCursor,
+                nextCursor == null);
+    }
+}
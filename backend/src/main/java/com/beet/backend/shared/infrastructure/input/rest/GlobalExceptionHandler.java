@@ -1,13 +1,25 @@
 package com.beet.backend.shared.infrastructure.input.rest;
 
+import com.beet.backend.shared.domain.exception.InvalidCursorException;
+import com.beet.backend.shared.domain.exception.InvalidPageRequestException;
 import com.beet.backend.shared.domain.exception.ResourceAlreadyExistsException;
 import com.beet.backend.shared.domain.exception.ResourceNotFoundException;
 import com.beet.backend.shared.domain.exception.ResourceLimitExceededException;
+import com.beet.backend.shared.domain.exception.ResourceVersionConflictException;
+import com.beet.backend.shared.domain.exception.ServiceOverloadedException;
 import com.beet.backend.modules.documenttype.domain.exception.InvalidDocumentTypeSearchException;
+import com.beet.backend.modules.ingredient.domain.exception.InvalidImportFileException;
 import com.beet.backend.modules.ingredient.domain.exception.UnitTypeMismatchException;
+import com.beet.backend.modules.unit.domain.exception.UnitConversionException;
+import com.beet.backend.modules.user.domain.exception.InvalidRefreshTokenException;
+import com.beet.backend.modules.role.domain.exception.PermissionDeniedException;
+import com.beet.backend.modules.subscription.domain.exception.FeatureNotAvailableException;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -26,6 +38,13 @@ public class GlobalExceptionHandler {
         return ApiGenericResponse.error(message);
     }
 
+    @ExceptionHandler(ResourceVersionConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiGenericResponse<Void> handleVersionConflict(ResourceVersionConflictException ex) {
+        String message = String.format("%s: %s", ex.getClass().getSimpleName(), ex.getMessage());
+        return ApiGenericResponse.error(message);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ApiGenericResponse<Void> handleNotFound(ResourceNotFoundException ex) {
@@ -65,6 +84,12 @@ public class GlobalExceptionHandler {
         return ApiGenericResponse.error(ex.getMessage());
     }
 
+    @ExceptionHandler(UnitConversionException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiGenericResponse<Void> handleUnitConversion(UnitConversionException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
     @ExceptionHandler(InvalidDocumentTypeSearchException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiGenericResponse<Void> handleInvalidDocumentTypeSearch(
@@ -72,6 +97,55 @@ public class GlobalExceptionHandler {
         return ApiGenericResponse.error(ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiGenericResponse<Void> handleInvalidCursor(InvalidCursorException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiGenericResponse<Void> handleInvalidPageRequest(InvalidPageRequestException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiGenericResponse<Void> handleInvalidImportFile(InvalidImportFileException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
+    @ExceptionHandler(BadCredentialsException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ApiGenericResponse<Void> handleBadCredentials(BadCredentialsException ex) {
+        return ApiGenericResponse.error("Invalid email or password");
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ApiGenericResponse<Void> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
+    @ExceptionHandler(PermissionDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ApiGenericResponse<Void> handlePermissionDenied(PermissionDeniedException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
+    @ExceptionHandler(FeatureNotAvailableException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ApiGenericResponse<Void> handleFeatureNotAvailable(FeatureNotAvailableException ex) {
+        return ApiGenericResponse.error(ex.getMessage());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiGenericResponse<Void>> handleServiceOverloaded(ServiceOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiGenericResponse.error(ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ApiGenericResponse<Void> handleAllExceptions(Exception ex) {
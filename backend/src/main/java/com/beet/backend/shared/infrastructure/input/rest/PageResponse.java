@@ -5,6 +5,8 @@ import java.util.List;
 /**
  * Generic paginated response wrapper that mirrors the Spring Page<T> structure.
  * Matches the frontend PageResponse<T> TypeScript interface exactly.
+ * When the total was not counted, {@code totalPages} and {@code totalElements} are -1
+ * and {@code last} comes from probing one row past the page.
  */
 public record PageResponse<T>(
         List<T> content,
@@ -29,4 +31,17 @@ public record PageResponse<T>(
                 content.size(),
                 content.isEmpty());
     }
+
+    public static <T> PageResponse<T> withoutTotal(List<T> content, int page, int size, boolean hasNext) {
+        return new PageResponse<>(
+                content,
+                -1,
+                -1,
+                size,
+                page,
+                page == 0,
+                !hasNext,
+                content.size(),
+                content.isEmpty());
+    }
 }
@@ -0,0 +1,133 @@
+package com.beet.backend.shared.infrastructure.persistence;
+
+import com.beet.backend.shared.domain.model.BaseAuditableAggregate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.jdbc.core.convert.EntityRowMapper;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Partial updates for {@link BaseAuditableAggregate} subclasses without a read-before-write.
+ * <p>
+ * The given aggregate is treated as a patch: its id (plus any {@code scope} properties)
+ * selects the row, and every other non-null property becomes a {@code SET}. Auditing fills
+ * {@code updatedAt}/{@code updatedBy}, the version is incremented and, when the patch
+ * carries one, checked. The updated row comes back through {@code RETURNING *}, so the
+ * whole write is one statement. Primitive properties are never null and are always written.
+ * <p>
+ * An empty result means no row matched: missing, outside the scope, a stale version or a
+ * failed {@code guard}. Callers diagnose which only on that path.
+ */
+@Component
+@RequiredArgsConstructor
+public class AggregatePatchWriter {
+
+    private static final Set<String> NEVER_PATCHED = Set.of("createdAt", "createdBy");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcConverter jdbcConverter;
+    private final IsNewAwareAuditingHandler auditingHandler;
+
+    public <T extends BaseAuditableAggregate> Optional<T> update(T patch, Set<String> scope) {
+        return update(patch, scope, null, Map.of());
+    }
+
+    /**
+     * @param scope       properties matched in the WHERE clause instead of being set
+     * @param guard       optional extra SQL predicate; the target table is aliased {@code t}
+     * @param guardParams named parameters used by {@code guard}
+     */
+    public <T extends BaseAuditableAggregate> Optional<T> update(T patch, Set<String> scope, String guard,
+            Map<String, ?> guardParams) {
+        @SuppressWarnings("unchecked")
+        RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) jdbcConverter.getMappingContext()
+                .getRequiredPersistentEntity(patch.getClass());
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(auditingHandler.markModified(patch));
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> assignments = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+
+        RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+        Object id = accessor.getProperty(idProperty);
+        if (id == null) {
+            throw new IllegalArgumentException("Cannot patch " + entity.getName() + " without an id");
+        }
+        conditions.add(condition(idProperty, id, params));
+
+        for (RelationalPersistentProperty property : entity) {
+            if (property.isIdProperty() || property.isVersionProperty() || property.isEntity()
+                    || NEVER_PATCHED.contains(property.getName())) {
+                continue;
+            }
+            Object value = accessor.getProperty(property);
+            if (scope.contains(property.getName())) {
+                if (value == null) {
+                    throw new IllegalArgumentException("Scope property " + property.getName() + " is null");
+                }
+                conditions.add(condition(property, value, params));
+            } else if (value != null) {
+                String parameter = "set_" + property.getName();
+                bind(params, parameter, property, value);
+                assignments.add(column(property) + " = :" + parameter);
+            }
+        }
+
+        if (entity.hasVersionProperty()) {
+            RelationalPersistentProperty versionProperty = entity.getRequiredVersionProperty();
+            String column = column(versionProperty);
+            assignments.add(column + " = t." + column + " + 1");
+            Object expectedVersion = accessor.getProperty(versionProperty);
+            if (expectedVersion != null) {
+                conditions.add(condition(versionProperty, expectedVersion, params));
+            }
+        }
+
+        if (guard != null) {
+            conditions.add("(" + guard + ")");
+            params.addValues(guardParams);
+        }
+
+        String sql = "UPDATE " + entity.getQualifiedTableName().getReference() + " t"
+                + " SET " + String.join(", ", assignments)
+                + " WHERE " + String.join(" AND ", conditions)
+                + " RETURNING *";
+
+        return jdbcTemplate.query(sql, params, new EntityRowMapper<>(entity, jdbcConverter))
+                .stream()
+                .findFirst();
+    }
+
+    private String condition(RelationalPersistentProperty property, Object value, MapSqlParameterSource params) {
+        String parameter = "where_" + property.getName();
+        bind(params, parameter, property, value);
+        return "t." + column(property) + " = :" + parameter;
+    }
+
+    private void bind(MapSqlParameterSource params, String parameter, RelationalPersistentProperty property,
+            Object value) {
+        // Same conversion Spring Data JDBC applies on save (enums, JSONB value objects, ...)
+        JdbcValue jdbcValue = jdbcConverter.writeJdbcValue(value, property.getTypeInformation(),
+                jdbcConverter.getTargetSqlType(property));
+        Integer sqlType = jdbcValue.getJdbcType() != null ? jdbcValue.getJdbcType().getVendorTypeNumber() : null;
+        params.addValue(parameter, jdbcValue.getValue(), sqlType != null ? sqlType : SqlTypeValue.TYPE_UNKNOWN);
+    }
+
+    private static String column(RelationalPersistentProperty property) {
+        return property.getColumnName().getReference();
+    }
+}
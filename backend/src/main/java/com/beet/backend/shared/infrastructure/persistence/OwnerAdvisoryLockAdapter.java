@@ -0,0 +1,37 @@
+package com.beet.backend.shared.infrastructure.persistence;
+
+import com.beet.backend.shared.domain.spi.OwnerLockPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * {@link OwnerLockPort} backed by PostgreSQL transaction-level advisory locks.
+ * <p>
+ * Uses the two-key form: a fixed namespace keeps these locks apart from any other
+ * advisory lock in the database, and {@code hashtext} of the owner id picks the slot.
+ * A hash collision only makes two owners wait on each other; it never lets a check race.
+ * The lock is released by PostgreSQL on commit or rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class OwnerAdvisoryLockAdapter implements OwnerLockPort {
+
+    static final int OWNER_LOCK_NAMESPACE = 0x0B_EE_70_01;
+
+    private final JdbcClient jdbcClient;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(UUID ownerId) {
+        jdbcClient.sql("SELECT pg_advisory_xact_lock(:namespace, hashtext(:ownerId))")
+                .param("namespace", OWNER_LOCK_NAMESPACE)
+                .param("ownerId", ownerId.toString())
+                .query(rs -> {
+                });
+    }
+}
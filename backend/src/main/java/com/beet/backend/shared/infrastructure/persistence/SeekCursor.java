@@ -0,0 +1,49 @@
+package com.beet.backend.shared.infrastructure.persistence;
+
+import com.beet.backend.shared.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page: its sort value and id, plus the sort it
+ * was taken under so it can't be replayed against another ordering.
+ * Travels to the client as an opaque URL-safe token.
+ *
+ * @param value sort value as text; null when the row had no value for the sort column
+ */
+public record SeekCursor(String sortKey, boolean descending, UUID id, String value) {
+
+    private static final String SEPARATOR = "\u001F";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortKey, descending ? "d" : "a", id.toString())
+                + (value != null ? SEPARATOR + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SeekCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length < 3 || !(parts[1].equals("a") || parts[1].equals("d"))) {
+                throw InvalidCursorException.malformed();
+            }
+            return new SeekCursor(parts[0], parts[1].equals("d"), UUID.fromString(parts[2]),
+                    parts.length == 4 ? parts[3] : null);
+        } catch (IllegalArgumentException e) {
+            throw InvalidCursorException.malformed();
+        }
+    }
+
+    /**
+     * Rejects a cursor issued under a different sort than the current request.
+     */
+    public SeekCursor requireSort(String expectedKey, boolean expectedDescending) {
+        if (!sortKey.equals(expectedKey) || descending != expectedDescending) {
+            throw InvalidCursorException.forSort(expectedKey);
+        }
+        return this;
+    }
+}
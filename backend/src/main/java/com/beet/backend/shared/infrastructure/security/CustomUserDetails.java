@@ -7,23 +7,95 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
 
+    /**
+     * Most restaurant roles signed into a token. Each entry costs about 100 bytes of
+     * header, so beyond this the token would approach Tomcat's 8 KB header limit; the
+     * claim is left out instead and role lookups fall back to the database.
+     */
+    public static final int MAX_SIGNED_RESTAURANT_ROLES = 50;
+
     private final UUID id;
     private final String email;
     private final String password;
+    private final UUID ownerId;
+    private final UUID subscriptionPlanId;
+    private final int tokenVersion;
+    private final Map<UUID, UUID> restaurantRoles; // restaurantId -> roleId, null when unknown or over the cap
     private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
+        this(user, null);
+    }
+
+    public CustomUserDetails(User user, Map<UUID, UUID> restaurantRoles) {
         this.id = user.getId();
         this.email = user.getEmail();
         this.password = user.getPasswordHash();
+        this.ownerId = user.getOwnerId();
+        this.subscriptionPlanId = user.getSubscriptionPlanId();
+        this.tokenVersion = user.getTokenVersion();
+        this.restaurantRoles = restaurantRoles != null && restaurantRoles.size() <= MAX_SIGNED_RESTAURANT_ROLES
+                ? Map.copyOf(restaurantRoles)
+                : null;
         this.authorities = Collections.emptyList(); // Handles roles later
     }
 
+    private CustomUserDetails(UUID id, String email, UUID ownerId, UUID subscriptionPlanId, int tokenVersion,
+            Map<UUID, UUID> restaurantRoles) {
+        this.id = id;
+        this.email = email;
+        this.password = null; // Never needed once the token is verified
+        this.ownerId = ownerId;
+        this.subscriptionPlanId = subscriptionPlanId;
+        this.tokenVersion = tokenVersion;
+        this.restaurantRoles = restaurantRoles;
+        this.authorities = Collections.emptyList();
+    }
+
+    /**
+     * Rebuilds the principal from already verified JWT claims.
+     * Returns null for tokens issued before identity claims were introduced,
+     * so callers can fall back to loading the user.
+     */
+    public static CustomUserDetails fromClaims(VerifiedClaims claims) {
+        if (!claims.hasIdentity()) {
+            return null;
+        }
+        return new CustomUserDetails(
+                claims.userId(),
+                claims.subject(),
+                claims.ownerId(),
+                claims.subscriptionPlanId(),
+                claims.tokenVersion(),
+                claims.restaurantRoles());
+    }
+
+    /**
+     * Identity claims stamped into access tokens, see {@link #fromClaims(VerifiedClaims)}.
+     */
+    public Map<String, Object> toClaims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(VerifiedClaims.CLAIM_USER_ID, id.toString());
+        if (ownerId != null)
+            claims.put(VerifiedClaims.CLAIM_OWNER_ID, ownerId.toString());
+        if (subscriptionPlanId != null)
+            claims.put(VerifiedClaims.CLAIM_PLAN_ID, subscriptionPlanId.toString());
+        claims.put(VerifiedClaims.CLAIM_TOKEN_VERSION, tokenVersion);
+        if (restaurantRoles != null) {
+            Map<String, String> roles = new HashMap<>();
+            restaurantRoles.forEach((restaurantId, roleId) -> roles.put(restaurantId.toString(), roleId.toString()));
+            claims.put(VerifiedClaims.CLAIM_RESTAURANT_ROLES, roles);
+        }
+        return claims;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
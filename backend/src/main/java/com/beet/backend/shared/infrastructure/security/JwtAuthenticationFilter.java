@@ -4,7 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,11 +17,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionValidator tokenVersionValidator;
+    private final boolean claimsAuthenticationEnabled;
+
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            TokenVersionValidator tokenVersionValidator,
+            @Value("${application.security.jwt.claims-authentication.enabled:true}") boolean claimsAuthenticationEnabled) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenVersionValidator = tokenVersionValidator;
+        this.claimsAuthenticationEnabled = claimsAuthenticationEnabled;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -29,21 +41,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        final String jwt = authHeader.substring(7);
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // One signature check per request; everything below works on the verified claims
+            UserDetails userDetails = jwtService.verify(jwt)
+                    .map(this::resolveUserDetails)
+                    .orElse(null);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -55,4 +67,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolveUserDetails(VerifiedClaims claims) {
+        return claimsAuthenticationEnabled && claims.hasIdentity()
+                ? authenticateFromClaims(claims)
+                : authenticateFromDatabase(claims);
+    }
+
+    /**
+     * Builds the principal straight from the verified claims. The only storage hit is the
+     * cached token version lookup. Tokens issued without identity claims take the database path.
+     */
+    private UserDetails authenticateFromClaims(VerifiedClaims claims) {
+        CustomUserDetails userDetails = CustomUserDetails.fromClaims(claims);
+        return tokenVersionValidator.isCurrent(userDetails.getId(), userDetails.getTokenVersion())
+                ? userDetails
+                : null;
+    }
+
+    private UserDetails authenticateFromDatabase(VerifiedClaims claims) {
+        if (claims.subject() == null) {
+            return null;
+        }
+        return this.userDetailsService.loadUserByUsername(claims.subject());
+    }
 }
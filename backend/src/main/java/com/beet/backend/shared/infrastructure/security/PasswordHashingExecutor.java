@@ -0,0 +1,113 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.shared.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt checks on a dedicated, bounded pool so a login storm cannot occupy the
+ * servlet worker threads. When the queue is full the caller fails fast with
+ * {@link ServiceOverloadedException} instead of waiting.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String RESOURCE = "Password hashing";
+    // Same trick as DaoAuthenticationProvider: unknown emails still pay for one hash
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final String userNotFoundEncodedPassword;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.password-hashing.pool-size:4}") int poolSize,
+            @Value("${application.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${application.security.password-hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        // Encoded at startup so the first unknown-email login isn't slower than the rest
+        this.userNotFoundEncodedPassword = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("beet.auth.password.hash.latency")
+                .description("Time spent verifying a password hash")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("beet.auth.password.hash.rejected")
+                .description("Password checks rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("beet.auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password checks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("beet.auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password checks currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verifies {@code rawPassword} against {@code encodedPassword} on the hashing pool.
+     * A null hash (unknown user) is checked against a dummy hash to keep timing uniform.
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        final String hash = encodedPassword != null ? encodedPassword : userNotFoundEncodedPassword;
+        final Future<Boolean> result;
+        try {
+            result = executor.submit(() -> hashTimer.record(() -> passwordEncoder.matches(rawPassword, hash)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw ServiceOverloadedException.forResource(RESOURCE);
+        }
+
+        try {
+            return Boolean.TRUE.equals(result.get(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                    && encodedPassword != null;
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw ServiceOverloadedException.forResource(RESOURCE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ServiceOverloadedException.forResource(RESOURCE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
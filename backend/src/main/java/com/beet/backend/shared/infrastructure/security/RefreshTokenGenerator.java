@@ -0,0 +1,49 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Opaque refresh tokens: 256 random bits, stored only as a SHA-256 digest.
+ * The token carries enough entropy that a fast hash is safe, so refreshes never touch BCrypt.
+ */
+@Component
+public class RefreshTokenGenerator {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long refreshExpiration;
+
+    public RefreshTokenGenerator(@Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration) {
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    public String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Instant expiresAt() {
+        return Instant.now().plusMillis(refreshExpiration);
+    }
+}
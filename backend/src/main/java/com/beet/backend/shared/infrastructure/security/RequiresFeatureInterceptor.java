@@ -0,0 +1,44 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.subscription.domain.api.EntitlementServicePort;
+import com.beet.backend.modules.subscription.domain.exception.FeatureNotAvailableException;
+import com.beet.backend.shared.domain.annotation.RequiresFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Evaluates {@link RequiresFeature} before the controller method runs. The owner comes
+ * from the principal and the entitlement from the cached owner plan and plan catalog,
+ * so a warm check never touches the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequiresFeatureInterceptor implements HandlerInterceptor {
+
+    private final EntitlementServicePort entitlementServicePort;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequiresFeature requirement = handlerMethod.getMethodAnnotation(RequiresFeature.class);
+        if (requirement == null) {
+            requirement = handlerMethod.getBeanType().getAnnotation(RequiresFeature.class);
+        }
+        if (requirement == null) {
+            return true;
+        }
+
+        if (!entitlementServicePort.isEnabled(SecurityUtils.getAuthenticatedOwnerId(), requirement.value())) {
+            throw FeatureNotAvailableException.forFeature(requirement.value());
+        }
+        return true;
+    }
+}
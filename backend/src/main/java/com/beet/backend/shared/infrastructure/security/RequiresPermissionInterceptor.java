@@ -0,0 +1,83 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.exception.PermissionDeniedException;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import com.beet.backend.shared.domain.annotation.RequiresPermission;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Evaluates {@link RequiresPermission} before the controller method runs.
+ * With a signed role claim the check is fully in memory: role id from the token,
+ * compiled {@code PermissionMatrix} from the role catalog. Only tokens without the
+ * claim for the restaurant fall back to a single-row role lookup.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequiresPermissionInterceptor implements HandlerInterceptor {
+
+    static final String RESTAURANT_ID_HEADER = "X-Restaurant-Id";
+
+    private final RoleCatalogServicePort roleCatalogServicePort;
+    private final RolePersistencePort rolePersistencePort;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequiresPermission requirement = handlerMethod.getMethodAnnotation(RequiresPermission.class);
+        if (requirement == null) {
+            return true;
+        }
+
+        UUID restaurantId = resolveRestaurantId(request, requirement.restaurantIdParam())
+                .orElseThrow(() -> PermissionDeniedException.withoutRestaurant(
+                        requirement.module(), requirement.action()));
+        UUID userId = SecurityUtils.getAuthenticatedUserId();
+
+        Optional<UUID> roleId = SecurityUtils.getSignedRoleId(userId, restaurantId)
+                .or(() -> rolePersistencePort.findRoleByUserIdAndRestaurantId(userId, restaurantId)
+                        .map(RoleDomain::getId));
+
+        boolean allowed = roleId
+                .map(roleCatalogServicePort::getPermissionMatrix)
+                .map(matrix -> matrix.allows(requirement.module(), requirement.action()))
+                .orElse(false);
+        if (!allowed) {
+            throw PermissionDeniedException.forRestaurant(requirement.module(), requirement.action(), restaurantId);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<UUID> resolveRestaurantId(HttpServletRequest request, String parameterName) {
+        Map<String, String> pathVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = pathVariables != null ? pathVariables.get(parameterName) : null;
+        if (value == null) {
+            value = request.getParameter(parameterName);
+        }
+        if (value == null) {
+            value = request.getHeader(RESTAURANT_ID_HEADER);
+        }
+        try {
+            return Optional.ofNullable(value).map(UUID::fromString);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.beet.backend.modules.user.domain.exception.UserNotFoundException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -16,4 +17,30 @@ public class SecurityUtils {
         }
         throw UserNotFoundException.forUsername(authentication.getName());
     }
+
+    /**
+     * Owner whose plan applies to the current user: their owner, or themselves when
+     * they are an owner.
+     */
+    public static UUID getAuthenticatedOwnerId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getOwnerId() != null ? userDetails.getOwnerId() : userDetails.getId();
+        }
+        throw UserNotFoundException.forUsername(authentication.getName());
+    }
+
+    /**
+     * Role id signed into the current token for the given user and restaurant.
+     * Empty when the caller is someone else, the token has no role claims or
+     * the restaurant was assigned after the token was issued.
+     */
+    public static Optional<UUID> getSignedRoleId(UUID userId, UUID restaurantId) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getId().equals(userId) && userDetails.getRestaurantRoles() != null) {
+            return Optional.ofNullable(userDetails.getRestaurantRoles().get(restaurantId));
+        }
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,44 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Short-lived revocation check for claims-only authentication.
+ * Caches the current token version per user for a few seconds, so a revoked or
+ * changed account is rejected within one TTL without loading the user per request.
+ */
+@Component
+public class TokenVersionValidator {
+
+    private final UserPersistencePort userPersistencePort;
+    private final Cache<UUID, Integer> currentVersions;
+
+    public TokenVersionValidator(
+            UserPersistencePort userPersistencePort,
+            @Value("${application.security.jwt.token-version.cache-ttl:30s}") Duration cacheTtl,
+            @Value("${application.security.jwt.token-version.cache-size:10000}") long cacheSize) {
+        this.userPersistencePort = userPersistencePort;
+        this.currentVersions = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        // Missing users are not cached: the loader returns null and the token is rejected
+        Integer currentVersion = currentVersions.get(userId,
+                id -> userPersistencePort.findTokenVersion(id).orElse(null));
+        return currentVersion != null && currentVersion == tokenVersion;
+    }
+
+    public void invalidate(UUID userId) {
+        currentVersions.invalidate(userId);
+    }
+}
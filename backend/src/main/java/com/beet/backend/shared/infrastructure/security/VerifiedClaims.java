@@ -0,0 +1,61 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable view of a token whose signature and expiration were already checked by
+ * {@link JwtService#verify(String)}. Identity fields are null for tokens issued
+ * before identity claims were introduced; {@code restaurantRoles} maps restaurant id
+ * to role id and is null when the token does not carry role claims.
+ */
+public record VerifiedClaims(
+        String subject,
+        UUID userId,
+        UUID ownerId,
+        UUID subscriptionPlanId,
+        Integer tokenVersion,
+        Map<UUID, UUID> restaurantRoles,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_OWNER_ID = "oid";
+    static final String CLAIM_PLAN_ID = "pid";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+    static final String CLAIM_RESTAURANT_ROLES = "rr";
+
+    static VerifiedClaims from(Claims claims) {
+        return new VerifiedClaims(
+                claims.getSubject(),
+                toUuid(claims.get(CLAIM_USER_ID, String.class)),
+                toUuid(claims.get(CLAIM_OWNER_ID, String.class)),
+                toUuid(claims.get(CLAIM_PLAN_ID, String.class)),
+                claims.get(CLAIM_TOKEN_VERSION, Integer.class),
+                toRestaurantRoles(claims.get(CLAIM_RESTAURANT_ROLES, Map.class)),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean hasIdentity() {
+        return userId != null && tokenVersion != null;
+    }
+
+    private static Map<UUID, UUID> toRestaurantRoles(Map<?, ?> value) {
+        if (value == null) {
+            return null;
+        }
+        Map<UUID, UUID> restaurantRoles = new HashMap<>();
+        value.forEach((restaurantId, roleId) ->
+                restaurantRoles.put(UUID.fromString(restaurantId.toString()), UUID.fromString(roleId.toString())));
+        return Map.copyOf(restaurantRoles);
+    }
+
+    private static UUID toUuid(String value) {
+        return value != null ? UUID.fromString(value) : null;
+    }
+}
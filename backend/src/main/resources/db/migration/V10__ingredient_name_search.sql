@@ -0,0 +1,23 @@
+/* =========================================================================
+   Accent-insensitive trigram search on ingredient names
+   ========================================================================= */
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+/* unaccent() is only STABLE (its dictionary could change), so it can't appear in
+   an index expression. Pinning the dictionary makes this wrapper safe to declare
+   IMMUTABLE; queries must use the same expression to hit the index. */
+CREATE OR REPLACE FUNCTION immutable_unaccent(text)
+    RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+/* Serves "name contains term" (LIKE '%term%') and similarity ranking, which a
+   B-tree can't do for a leading wildcard. Catalogs are in Spanish, so names are
+   lower-cased and unaccented: "azucar" matches "Azúcar". */
+CREATE INDEX idx_mi_name_search_trgm ON master_ingredients
+    USING gin (immutable_unaccent(lower(name)) gin_trgm_ops)
+    WHERE deleted_at IS NULL;
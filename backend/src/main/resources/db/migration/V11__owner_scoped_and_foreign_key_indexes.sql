@@ -0,0 +1,31 @@
+/* =========================================================================
+   Owner-scoped and foreign-key backing indexes
+   ========================================================================= */
+
+/* Every foreign key gets a full index on its column. When a parent row is
+   deleted, PostgreSQL checks for child rows without any deleted_at predicate,
+   so a partial WHERE deleted_at IS NULL index can't answer that check.
+   Owner-scoped reads filter deleted_at on top of the same index. Existing
+   partial indexes (idx_mi_owner_name_keyset from V9) stay for the ordered
+   keyset lookups; user_restaurant_roles (user_id) is covered by
+   idx_urr_user_id (V6). */
+CREATE INDEX idx_users_owner ON users (owner_id);
+CREATE INDEX idx_roles_restaurant ON roles (restaurant_id);
+CREATE INDEX idx_taxes_owner ON taxes (owner_id);
+CREATE INDEX idx_mi_owner ON master_ingredients (owner_id);
+
+/* These also serve queries that don't filter on deleted_at: restaurant
+   validation and role assignment lookups. */
+CREATE INDEX idx_restaurants_owner ON restaurants (owner_id);
+CREATE INDEX idx_urr_restaurant_user ON user_restaurant_roles (restaurant_id, user_id);
+CREATE INDEX idx_urr_role ON user_restaurant_roles (role_id);
+CREATE INDEX idx_users_subscription_plan ON users (subscription_plan_id);
+CREATE INDEX idx_restaurant_taxes_restaurant ON restaurant_taxes (restaurant_id);
+CREATE INDEX idx_restaurant_taxes_tax ON restaurant_taxes (tax_id);
+CREATE INDEX idx_unit_conversions_to_unit ON unit_conversions (to_unit_id);
+CREATE INDEX idx_document_types_country ON document_types (country_id);
+CREATE INDEX idx_suppliers_document_type ON suppliers (document_type_id);
+CREATE INDEX idx_mi_base_unit ON master_ingredients (base_unit_id);
+CREATE INDEX idx_mi_active_supplier_item ON master_ingredients (active_supplier_item_id);
+CREATE INDEX idx_si_master_ingredient ON supplier_items (master_ingredient_id);
+CREATE INDEX idx_si_supplier ON supplier_items (supplier_id);
@@ -0,0 +1,11 @@
+/* =========================================================================
+   Deferrable circular FK between master_ingredients and supplier_items
+   ========================================================================= */
+
+/* The active supplier item points back at its own ingredient. The FK stays
+   checked per statement by default, which is enough for a single statement
+   that inserts both rows. Making it DEFERRABLE lets a multi-statement path
+   (the batched import) opt in with SET CONSTRAINTS ... DEFERRED, so an
+   ingredient can be inserted already linked to an item that follows. */
+ALTER TABLE master_ingredients ALTER CONSTRAINT fk_mi_active_supplier_item
+    DEFERRABLE INITIALLY IMMEDIATE;
@@ -0,0 +1,10 @@
+/* =========================================================================
+   Owner system role: restaurant management permission
+   ========================================================================= */
+
+/* Restaurant endpoints are now guarded by @RequiresPermission. The Owner role
+   was seeded with inventory permissions only, so owners need RESTAURANTS
+   granted explicitly to keep editing their own restaurants. */
+UPDATE roles
+SET permissions = permissions || '{"RESTAURANTS": ["MANAGE"]}'::jsonb
+WHERE name = 'Owner' AND restaurant_id IS NULL;
@@ -0,0 +1,10 @@
+/* =========================================================================
+   owner_usage: drop the employee counter
+   ========================================================================= */
+
+/* No code path creates or deletes staff users yet, so employees_used was
+   only ever set by the V8 backfill and drifted from the users table after
+   that. Drop it until employee management exists and can keep it in the
+   same transaction as the write it tracks. */
+ALTER TABLE owner_usage DROP CONSTRAINT chk_owner_usage_employees;
+ALTER TABLE owner_usage DROP COLUMN employees_used;
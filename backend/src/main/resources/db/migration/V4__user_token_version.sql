@@ -0,0 +1,9 @@
+/* =========================================================================
+   User token versioning
+   ========================================================================= */
+
+/* Access tokens carry the version they were issued with. Bumping the column
+   invalidates every token issued before the change without loading the user
+   on each request. */
+ALTER TABLE users
+    ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+/* =========================================================================
+   Refresh Tokens
+   ========================================================================= */
+
+/* Opaque, single-use refresh tokens. Only the SHA-256 of the token is stored;
+   every refresh revokes the presented row and inserts its replacement. */
+CREATE TABLE refresh_tokens (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    token_hash CHAR(64) NOT NULL UNIQUE,      /* Hex SHA-256 of the raw token */
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE,      /* Set when rotated or revoked */
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW() NOT NULL
+);
+
+ALTER TABLE refresh_tokens ADD CONSTRAINT fk_rt_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
@@ -0,0 +1,7 @@
+/* =========================================================================
+   User restaurant roles lookup index
+   ========================================================================= */
+
+/* "My restaurants" and login read every assignment of one user. Covering the
+   joined columns lets the lookup stay an index-only scan on user_id. */
+CREATE INDEX idx_urr_user_id ON user_restaurant_roles (user_id) INCLUDE (restaurant_id, role_id);
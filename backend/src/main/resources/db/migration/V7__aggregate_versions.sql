@@ -0,0 +1,11 @@
+/* =========================================================================
+   Optimistic versioning for auditable aggregates
+   ========================================================================= */
+
+/* Every write bumps the version. Partial updates check it instead of reading
+   the row first, so a stale client gets a conflict rather than a lost update. */
+ALTER TABLE users              ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE restaurants        ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE suppliers          ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE master_ingredients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE supplier_items     ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
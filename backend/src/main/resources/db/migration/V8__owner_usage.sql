@@ -0,0 +1,28 @@
+/* =========================================================================
+   Materialized plan usage per owner
+   ========================================================================= */
+
+/* One row per owner with the counters checked against SubscriptionFeatures.
+   They are kept in the transaction of the insert or soft delete they track,
+   so a limit check is a primary-key read instead of a COUNT(*), and a
+   reservation is a single conditional update. Rows are created on the first
+   reservation. */
+CREATE TABLE owner_usage (
+    owner_id UUID PRIMARY KEY,
+    restaurants_used INT NOT NULL DEFAULT 0,
+    employees_used INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW() NOT NULL,
+
+    CONSTRAINT fk_owner_usage_owner FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_owner_usage_restaurants CHECK (restaurants_used >= 0),
+    CONSTRAINT chk_owner_usage_employees CHECK (employees_used >= 0)
+);
+
+/* Backfill from the live rows: restaurants by owner, staff by their owner. */
+INSERT INTO owner_usage (owner_id, restaurants_used, employees_used)
+SELECT u.id,
+       (SELECT COUNT(*) FROM restaurants r WHERE r.owner_id = u.id AND r.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM users e WHERE e.owner_id = u.id AND e.deleted_at IS NULL)
+FROM users u
+WHERE EXISTS (SELECT 1 FROM restaurants r WHERE r.owner_id = u.id AND r.deleted_at IS NULL)
+   OR EXISTS (SELECT 1 FROM users e WHERE e.owner_id = u.id AND e.deleted_at IS NULL);
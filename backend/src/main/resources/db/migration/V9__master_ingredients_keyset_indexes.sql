@@ -0,0 +1,9 @@
+/* =========================================================================
+   Keyset pagination indexes for the ingredient catalog
+   ========================================================================= */
+
+/* Cursor pages seek on (sort value, id) within one owner's live rows. With the
+   id as the last key the index order matches the ORDER BY exactly, so each
+   page reads only the rows it returns. */
+CREATE INDEX idx_mi_owner_name_keyset ON master_ingredients (owner_id, LOWER(name), id)
+    WHERE deleted_at IS NULL;
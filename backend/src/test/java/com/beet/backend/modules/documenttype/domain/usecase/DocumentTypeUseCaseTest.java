@@ -0,0 +1,79 @@
+package com.beet.backend.modules.documenttype.domain.usecase;
+
+import com.beet.backend.modules.documenttype.domain.exception.InvalidDocumentTypeSearchException;
+import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
+import com.beet.backend.modules.documenttype.domain.spi.DocumentTypePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentTypeUseCaseTest {
+
+    @Mock
+    private DocumentTypePersistencePort persistencePort;
+
+    private DocumentTypeUseCase documentTypeUseCase;
+
+    private final DocumentTypeDomain nit = documentType("NIT", "CO");
+    private final DocumentTypeDomain cc = documentType("CC", "CO");
+    private final DocumentTypeDomain rfc = documentType("RFC", "MX");
+
+    @BeforeEach
+    void setUp() {
+        documentTypeUseCase = new DocumentTypeUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldServeSearchesFromPreloadedSnapshot() {
+        when(persistencePort.findAll()).thenReturn(List.of(cc, nit, rfc));
+        documentTypeUseCase.preload();
+
+        assertEquals(List.of(cc, nit), documentTypeUseCase.getDocumentTypesByCountry(" co "));
+        assertEquals(List.of(rfc), documentTypeUseCase.getDocumentTypesByCountry("MX"));
+        assertTrue(documentTypeUseCase.getDocumentTypesByCountry("PE").isEmpty());
+        assertSame(documentTypeUseCase.getAllByCountry(), documentTypeUseCase.getAllByCountry());
+
+        verify(persistencePort, times(1)).findAll();
+    }
+
+    @Test
+    void shouldLoadLazilyAndPickUpChangesOnReload() {
+        when(persistencePort.findAll())
+                .thenReturn(List.of(cc))
+                .thenReturn(List.of(cc, rfc));
+
+        assertTrue(documentTypeUseCase.getDocumentTypesByCountry("MX").isEmpty());
+        documentTypeUseCase.reload();
+        assertEquals(List.of(rfc), documentTypeUseCase.getDocumentTypesByCountry("MX"));
+
+        verify(persistencePort, times(2)).findAll();
+    }
+
+    @Test
+    void shouldRejectBlankCountryCode() {
+        assertThrows(InvalidDocumentTypeSearchException.class,
+                () -> documentTypeUseCase.getDocumentTypesByCountry(" "));
+    }
+
+    private static DocumentTypeDomain documentType(String name, String countryCode) {
+        return DocumentTypeDomain.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .countryCode(countryCode)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.beet.backend.modules.ingredient.application.writer;
+
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IngredientExportWriterTest {
+
+    private static final String HEADER = "id,name,unitAbbreviation,costPerBaseUnit,supplierId,supplierName,"
+            + "brandName,purchaseUnitName,conversionFactor\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private final UUID flourId = UUID.randomUUID();
+    private final UUID supplierId = UUID.randomUUID();
+
+    @Test
+    void shouldWriteHeaderForEmptyCatalog() throws Exception {
+        IngredientExportWriter writer = IngredientExportWriter.csv(output);
+
+        writer.finish();
+
+        assertEquals(HEADER, written());
+    }
+
+    @Test
+    void shouldQuoteCsvFieldsOnlyWhenNeeded() throws Exception {
+        IngredientExportWriter writer = IngredientExportWriter.csv(output);
+
+        writer.accept(new IngredientExportRow(flourId, "Flour, \"00\"", "g", new BigDecimal("0.0025"),
+                supplierId, "Molino\nNorte", "Brand", null, new BigDecimal("1000")));
+        writer.finish();
+
+        assertEquals(HEADER
+                + flourId + ",\"Flour, \"\"00\"\"\",g,0.0025," + supplierId + ",\"Molino\nNorte\",Brand,,1000\n",
+                written());
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        IngredientExportWriter writer = IngredientExportWriter.ndjson(output, objectMapper);
+
+        writer.accept(new IngredientExportRow(flourId, "Flour\n00", "g", new BigDecimal("0.0025"),
+                null, null, null, null, null));
+        writer.accept(new IngredientExportRow(UUID.randomUUID(), "Sugar", "g", null,
+                supplierId, "Dulce", "Brand", "Bag 1kg", new BigDecimal("1000")));
+        writer.finish();
+
+        String[] lines = written().split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(flourId.toString(), first.get("id").asText());
+        assertEquals("Flour\n00", first.get("name").asText());
+        assertTrue(first.get("supplierId").isNull());
+        assertEquals("Dulce", objectMapper.readTree(lines[1]).get("supplierName").asText());
+    }
+
+    private String written() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,157 @@
+package com.beet.backend.modules.ingredient.domain.usecase;
+
+import com.beet.backend.modules.ingredient.application.parser.IngredientImportParser;
+import com.beet.backend.modules.ingredient.domain.exception.InvalidImportFileException;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportReport;
+import com.beet.backend.modules.ingredient.domain.model.IngredientImportReport.RowError;
+import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
+import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
+import com.beet.backend.modules.ingredient.domain.spi.IngredientPersistencePort;
+import com.beet.backend.modules.supplier.domain.api.SupplierServicePort;
+import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.modules.unit.domain.model.UnitDomain;
+import com.beet.backend.modules.unit.domain.model.UnitType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientImportUseCaseTest {
+
+    private static final String HEADER = "name,baseUnit,supplierId,purchaseUnitName,brandName,conversionFactor,conversionUnit,totalPrice";
+
+    @Mock
+    private IngredientPersistencePort persistencePort;
+
+    @Mock
+    private UnitServicePort unitServicePort;
+
+    @Mock
+    private SupplierServicePort supplierServicePort;
+
+    private IngredientImportUseCase useCase;
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID supplierId = UUID.randomUUID();
+    private final UnitDomain gram = unit("g", UnitType.MASS, "1");
+    private final UnitDomain kilogram = unit("kg", UnitType.MASS, "1000");
+    private final UnitDomain liter = unit("L", UnitType.VOLUME, "1000");
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IngredientImportUseCase(persistencePort, unitServicePort, supplierServicePort, 2);
+    }
+
+    @Test
+    void shouldImportValidRowsInBatchesAndReportTheRest() {
+        stubUnits();
+        List<MasterIngredientDomain> saved = new ArrayList<>();
+        List<SupplierItemDomain> savedItems = new ArrayList<>();
+        when(supplierServicePort.findOwnedIds(any(), eq(ownerId))).thenReturn(Set.of(supplierId));
+        when(persistencePort.findExistingNames(eq(ownerId), any())).thenReturn(Set.of("Sugar"));
+        doAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            savedItems.addAll(invocation.getArgument(1));
+            return null;
+        }).when(persistencePort).saveAllWithActiveItems(anyList(), anyList());
+
+        IngredientImportReport report = useCase.importRows(IngredientImportParser.csv(csv(
+                HEADER,
+                "Flour,g," + supplierId + ",Sack,\"Harina, San Pablo\",25,kg,45000",
+                "Flour,g," + supplierId + ",Sack,,25,kg,45000",
+                "Milk,g," + supplierId + ",Jug,,1,L,4000",
+                "Salt,oz," + supplierId + ",Bag,,1,kg,2000",
+                "",
+                "Rice,g," + UUID.randomUUID() + ",Bag,,1,kg,3000",
+                "Sugar,g," + supplierId + ",Bag,,1,kg,3000",
+                "Oil,g," + supplierId + ",Bottle,,1,kg,-5",
+                "Eggs,g," + supplierId + ",\"Tray,,1,kg,5000")), ownerId);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(7);
+        assertThat(report.errorsTruncated()).isFalse();
+        assertThat(report.errors()).extracting(RowError::row).containsExactlyInAnyOrder(3L, 4L, 5L, 7L, 8L, 9L, 10L);
+
+        MasterIngredientDomain flour = saved.get(0);
+        SupplierItemDomain item = savedItems.get(0);
+        assertThat(flour.getName()).isEqualTo("Flour");
+        assertThat(flour.getActiveSupplierItemId()).isEqualTo(item.getId());
+        assertThat(item.getMasterIngredientId()).isEqualTo(flour.getId());
+        assertThat(item.getBrandName()).isEqualTo("Harina, San Pablo");
+        assertThat(item.getConversionFactor()).isEqualByComparingTo("25000");
+        assertThat(item.getLastCostBase()).isEqualByComparingTo("1.8");
+
+        // 4 rows pass the single-row checks → two batches of 2, one lookup each
+        verify(supplierServicePort, times(2)).findOwnedIds(any(), eq(ownerId));
+    }
+
+    @Test
+    void shouldReadNdjsonWithTheSameFields() {
+        stubUnits();
+        when(supplierServicePort.findOwnedIds(any(), eq(ownerId))).thenReturn(Set.of(supplierId));
+        when(persistencePort.findExistingNames(eq(ownerId), any())).thenReturn(Set.of());
+        ArgumentCaptor<List<SupplierItemDomain>> items = ArgumentCaptor.captor();
+
+        IngredientImportReport report = useCase.importRows(IngredientImportParser.ndjson(csv(
+                "{\"name\":\"Olive Oil\",\"baseUnit\":\"g\",\"supplierId\":\"" + supplierId
+                        + "\",\"purchaseUnitName\":\"Can\",\"conversionFactor\":2.5,\"conversionUnit\":\"KG\",\"totalPrice\":50000}",
+                "not json"), new ObjectMapper()), ownerId);
+
+        verify(persistencePort).saveAllWithActiveItems(anyList(), items.capture());
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new RowError(2, "Invalid JSON"));
+        assertThat(items.getValue().get(0).getLastCostBase()).isEqualByComparingTo(new BigDecimal("20"));
+    }
+
+    @Test
+    void shouldRejectCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> IngredientImportParser.csv(csv("name,baseUnit")))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("supplierId");
+    }
+
+    private void stubUnits() {
+        Map<String, UnitDomain> units = Map.of("g", gram, "kg", kilogram, "l", liter);
+        when(unitServicePort.findByAbbreviation(anyString()))
+                .thenAnswer(invocation -> units.get(invocation.<String>getArgument(0).toLowerCase(Locale.ROOT)));
+    }
+
+    private static InputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UnitDomain unit(String abbreviation, UnitType type, String factorToBase) {
+        return UnitDomain.builder()
+                .id(UUID.randomUUID())
+                .abbreviation(abbreviation)
+                .type(type)
+                .factorToBase(new BigDecimal(factorToBase))
+                .build();
+    }
+}
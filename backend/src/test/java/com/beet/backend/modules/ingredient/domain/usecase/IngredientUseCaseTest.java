@@ -0,0 +1,63 @@
+package com.beet.backend.modules.ingredient.domain.usecase;
+
+import com.beet.backend.modules.ingredient.domain.spi.IngredientPersistencePort;
+import com.beet.backend.modules.supplier.domain.api.SupplierServicePort;
+import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.shared.domain.exception.InvalidPageRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientUseCaseTest {
+
+    @Mock
+    private IngredientPersistencePort persistencePort;
+
+    @Mock
+    private UnitServicePort unitServicePort;
+
+    @Mock
+    private SupplierServicePort supplierServicePort;
+
+    private IngredientUseCase ingredientUseCase;
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ingredientUseCase = new IngredientUseCase(persistencePort, unitServicePort, supplierServicePort);
+    }
+
+    @Test
+    void shouldRejectCursorPageOfSizeZeroBeforeQuerying() {
+        assertThatThrownBy(() -> ingredientUseCase.listAfter(ownerId, null, 0, null, "name", false, null))
+                .isInstanceOf(InvalidPageRequestException.class)
+                .hasMessage("Page size must be between 1 and 100: 0");
+        assertThatThrownBy(() -> ingredientUseCase.listAfter(ownerId, null, -5, null, "name", false, null))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> ingredientUseCase.listAfter(ownerId, null, 101, null, "name", false, null))
+                .isInstanceOf(InvalidPageRequestException.class);
+
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void shouldRejectOffsetPageOfSizeZeroOrNegativePageBeforeQuerying() {
+        assertThatThrownBy(() -> ingredientUseCase.list(ownerId, 0, 0, null, null, false, null, true))
+                .isInstanceOf(InvalidPageRequestException.class)
+                .hasMessage("Page size must be between 1 and 100: 0");
+        assertThatThrownBy(() -> ingredientUseCase.list(ownerId, -1, 10, null, null, false, null, true))
+                .isInstanceOf(InvalidPageRequestException.class)
+                .hasMessage("Page number must not be negative: -1");
+
+        verifyNoInteractions(persistencePort);
+    }
+}
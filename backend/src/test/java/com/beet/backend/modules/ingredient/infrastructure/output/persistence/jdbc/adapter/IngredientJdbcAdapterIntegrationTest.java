@@ -0,0 +1,216 @@
+package com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.adapter;
+
+import com.beet.backend.modules.ingredient.application.dto.IngredientDetailResponse;
+import com.beet.backend.modules.ingredient.application.dto.IngredientExportRow;
+import com.beet.backend.modules.ingredient.application.dto.IngredientListResponse;
+import com.beet.backend.modules.ingredient.domain.api.IngredientServicePort;
+import com.beet.backend.modules.ingredient.domain.model.MasterIngredientDomain;
+import com.beet.backend.modules.ingredient.domain.model.SupplierItemDomain;
+import com.beet.backend.shared.infrastructure.config.SqlStatementCounter;
+import com.beet.backend.shared.infrastructure.input.rest.CursorPageResponse;
+import com.beet.backend.shared.infrastructure.input.rest.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips and paging contracts of the ingredient list read model.
+ * Needs Docker; skipped otherwise.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(SqlStatementCounter.class)
+class IngredientJdbcAdapterIntegrationTest {
+
+    private static final int INGREDIENTS = 25;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private IngredientJdbcAdapter adapter;
+
+    @Autowired
+    private IngredientServicePort ingredientServicePort;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        jdbcClient.sql("""
+                INSERT INTO users (id, email, password_hash, first_name, first_lastname)
+                VALUES (:id, :email, 'hash', 'Owner', 'Test')
+                """)
+                .param("id", ownerId)
+                .param("email", ownerId + "@beet.test")
+                .update();
+        for (int i = 0; i < INGREDIENTS; i++) {
+            insertIngredient("Ingredient %02d".formatted(i));
+        }
+    }
+
+    private UUID insertSupplier() {
+        return jdbcClient.sql("""
+                INSERT INTO suppliers (owner_id, document_type_id, document_number, name, created_by, updated_by)
+                VALUES (:ownerId, (SELECT id FROM document_types WHERE name = 'NIT'), '900-1', 'Harinas SA',
+                        :ownerId, :ownerId)
+                RETURNING id
+                """)
+                .param("ownerId", ownerId)
+                .query(UUID.class)
+                .single();
+    }
+
+    private UUID gramId() {
+        return jdbcClient.sql("SELECT id FROM units WHERE abbreviation = 'g'").query(UUID.class).single();
+    }
+
+    private void insertIngredient(String name) {
+        jdbcClient.sql("""
+                INSERT INTO master_ingredients (owner_id, name, base_unit_id, created_by, updated_by)
+                VALUES (:ownerId, :name, (SELECT id FROM units WHERE abbreviation = 'g'), :ownerId, :ownerId)
+                """)
+                .param("ownerId", ownerId)
+                .param("name", name)
+                .update();
+    }
+
+    @Test
+    void shouldReturnPageAndTotalInOneStatement() {
+        sqlStatementCounter.reset();
+
+        PageResponse<IngredientListResponse> page = adapter.findAllByOwnerId(ownerId, 1, 10, null, "name", false,
+                null, true);
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+        assertThat(page.totalElements()).isEqualTo(INGREDIENTS);
+        assertThat(page.totalPages()).isEqualTo(3);
+        assertThat(page.content()).hasSize(10);
+        assertThat(page.content().get(0).name()).isEqualTo("Ingredient 10");
+    }
+
+    @Test
+    void shouldProbeNextPageWithoutCounting() {
+        sqlStatementCounter.reset();
+
+        PageResponse<IngredientListResponse> middle = adapter.findAllByOwnerId(ownerId, 1, 10, null, "name", false,
+                null, false);
+        PageResponse<IngredientListResponse> tail = adapter.findAllByOwnerId(ownerId, 2, 10, null, "name", false,
+                null, false);
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(2);
+        assertThat(middle.totalElements()).isEqualTo(-1);
+        assertThat(middle.content()).hasSize(10);
+        assertThat(middle.last()).isFalse();
+        assertThat(tail.content()).hasSize(5);
+        assertThat(tail.last()).isTrue();
+    }
+
+    @Test
+    void shouldMatchIgnoringAccentsAndRankByRelevance() {
+        insertIngredient("Azúcar morena");
+        insertIngredient("Salsa de tomate con azúcar");
+
+        PageResponse<IngredientListResponse> page = adapter.findAllByOwnerId(ownerId, 0, 10, "azucar", null, false,
+                null, true);
+
+        assertThat(page.content()).extracting(IngredientListResponse::name)
+                .containsExactly("Azúcar morena", "Salsa de tomate con azúcar");
+    }
+
+    @Test
+    void shouldWalkEveryRowOnceWithCursor() {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<IngredientListResponse> page = adapter.findAllByOwnerIdAfter(ownerId, cursor, 10,
+                    null, "name", true, null);
+            page.content().forEach(item -> names.add(item.name()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(names).hasSize(INGREDIENTS).doesNotHaveDuplicates();
+        assertThat(names.get(0)).isEqualTo("Ingredient 24");
+        assertThat(names.get(INGREDIENTS - 1)).isEqualTo("Ingredient 00");
+    }
+
+    @Test
+    void shouldInsertBatchWithActiveItemsInTwoStatements() {
+        UUID supplierId = insertSupplier();
+        UUID gramId = gramId();
+
+        List<MasterIngredientDomain> ingredients = new ArrayList<>();
+        List<SupplierItemDomain> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UUID ingredientId = UUID.randomUUID();
+            UUID itemId = UUID.randomUUID();
+            ingredients.add(MasterIngredientDomain.builder().id(ingredientId).ownerId(ownerId)
+                    .name("Imported " + i).baseUnitId(gramId).activeSupplierItemId(itemId).build());
+            items.add(SupplierItemDomain.builder().id(itemId).masterIngredientId(ingredientId)
+                    .supplierId(supplierId).purchaseUnitName("Sack")
+                    .conversionFactor(new BigDecimal("25000")).lastCostBase(new BigDecimal("1.80")).build());
+        }
+
+        sqlStatementCounter.reset();
+        adapter.saveAllWithActiveItems(ingredients, items);
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(2);
+        assertThat(adapter.findExistingNames(ownerId, List.of("Imported 0", "Imported 2", "Missing")))
+                .containsExactlyInAnyOrder("Imported 0", "Imported 2");
+        IngredientDetailResponse detail = adapter.findDetailById(ingredients.get(1).getId(), ownerId).orElseThrow();
+        assertThat(detail.activeSupplier().supplierItemId()).isEqualTo(items.get(1).getId());
+    }
+
+    @Test
+    void shouldStreamWholeCatalogInNameOrderWithOneStatement() {
+        List<IngredientExportRow> rows = new ArrayList<>();
+
+        sqlStatementCounter.reset();
+        ingredientServicePort.export(ownerId, null, null, rows::add);
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+        assertThat(rows).hasSize(INGREDIENTS);
+        assertThat(rows.get(0).name()).isEqualTo("Ingredient 00");
+        assertThat(rows.get(0).supplierId()).isNull();
+    }
+
+    @Test
+    void shouldCreateIngredientLinkedToItsActiveItemInOneStatement() {
+        SupplierItemDomain item = SupplierItemDomain.builder().supplierId(insertSupplier())
+                .purchaseUnitName("Sack").conversionFactor(new BigDecimal("25000"))
+                .lastCostBase(new BigDecimal("1.80")).build();
+        MasterIngredientDomain ingredient = MasterIngredientDomain.builder().ownerId(ownerId)
+                .name("Flour").baseUnitId(gramId()).build();
+
+        sqlStatementCounter.reset();
+        MasterIngredientDomain saved = adapter.saveWithActiveItem(ingredient, item);
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+        assertThat(saved.getActiveSupplierItemId()).isEqualTo(item.getId());
+        IngredientDetailResponse detail = adapter.findDetailById(saved.getId(), ownerId).orElseThrow();
+        assertThat(detail.activeSupplier().supplierItemId()).isEqualTo(item.getId());
+        assertThat(detail.costPerBaseUnit()).isEqualByComparingTo("1.80");
+    }
+}
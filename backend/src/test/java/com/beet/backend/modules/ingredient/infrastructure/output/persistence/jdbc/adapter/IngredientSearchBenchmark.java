@@ -0,0 +1,137 @@
+package com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.adapter;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingredient name search on a generated 100k-ingredient tenant.
+ * <p>
+ * {@code ilike} is the former predicate ({@code name ILIKE '%term%'}, sequential scan of
+ * the owner's rows, accents must match); {@code trigram} is the current one (unaccented
+ * {@code LIKE} served by the GIN trigram index, ranked by word similarity), both returning
+ * the first page of 10.
+ * <p>
+ * Needs Docker. Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.beet.backend.modules.ingredient.infrastructure.output.persistence.jdbc.adapter.IngredientSearchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngredientSearchBenchmark {
+
+    private static final int INGREDIENTS = 100_000;
+
+    private static final String ILIKE_SQL = """
+            SELECT mi.id, mi.name
+            FROM master_ingredients mi
+            WHERE mi.owner_id = ? AND mi.deleted_at IS NULL
+              AND mi.name ILIKE '%' || ? || '%'
+            ORDER BY LOWER(mi.name), mi.id
+            LIMIT 10
+            """;
+
+    private static final String TRIGRAM_SQL = """
+            SELECT mi.id, mi.name
+            FROM master_ingredients mi
+            WHERE mi.owner_id = ? AND mi.deleted_at IS NULL
+              AND immutable_unaccent(lower(mi.name)) LIKE '%' || immutable_unaccent(lower(?)) || '%'
+            ORDER BY word_similarity(immutable_unaccent(lower(?)), immutable_unaccent(lower(mi.name))) DESC,
+                     LOWER(mi.name), mi.id
+            LIMIT 10
+            """;
+
+    @Param({ "azucar morena", "jalapeño 4242" })
+    private String term;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement ilike;
+    private PreparedStatement trigram;
+    private UUID ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+        ownerId = UUID.randomUUID();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, email, password_hash, first_name, first_lastname)
+                    VALUES ('%1$s', 'bench@beet.test', 'hash', 'Bench', 'Owner');
+                    INSERT INTO master_ingredients (owner_id, name, base_unit_id, created_by, updated_by)
+                    SELECT '%1$s',
+                           (ARRAY['Azúcar', 'Harina', 'Tomate', 'Cebolla', 'Limón', 'Pimentón', 'Jalapeño',
+                                  'Maíz', 'Café', 'Azafrán'])[1 + i %% 10]
+                           || ' ' || (ARRAY['morena', 'blanca', 'orgánica', 'refinada', 'en polvo', 'chonto',
+                                            'tostado', 'dulce'])[1 + (i / 10) %% 8]
+                           || ' ' || i,
+                           (SELECT id FROM units WHERE abbreviation = 'g'), '%1$s', '%1$s'
+                    FROM generate_series(1, %2$d) AS i;
+                    ANALYZE master_ingredients;
+                    """.formatted(ownerId, INGREDIENTS));
+        }
+        ilike = connection.prepareStatement(ILIKE_SQL);
+        trigram = connection.prepareStatement(TRIGRAM_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public int ilike() throws SQLException {
+        ilike.setObject(1, ownerId);
+        ilike.setString(2, term);
+        return count(ilike);
+    }
+
+    @Benchmark
+    public int trigram() throws SQLException {
+        trigram.setObject(1, ownerId);
+        trigram.setString(2, term);
+        trigram.setString(3, term);
+        return count(trigram);
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IngredientSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
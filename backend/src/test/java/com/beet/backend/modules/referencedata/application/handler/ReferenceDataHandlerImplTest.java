@@ -0,0 +1,122 @@
+package com.beet.backend.modules.referencedata.application.handler;
+
+import com.beet.backend.modules.documenttype.application.mapper.DocumentTypeServiceMapper;
+import com.beet.backend.modules.documenttype.domain.api.DocumentTypeServicePort;
+import com.beet.backend.modules.documenttype.domain.model.DocumentTypeDomain;
+import com.beet.backend.modules.referencedata.application.dto.ReferenceDataBundle;
+import com.beet.backend.modules.subscription.application.mapper.SubscriptionMapper;
+import com.beet.backend.modules.subscription.domain.api.GetSubscriptionPlansServicePort;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
+import com.beet.backend.modules.unit.application.mapper.UnitServiceMapper;
+import com.beet.backend.modules.unit.domain.api.UnitServicePort;
+import com.beet.backend.modules.unit.domain.model.UnitDomain;
+import com.beet.backend.modules.unit.domain.model.UnitType;
+import com.beet.backend.shared.infrastructure.input.rest.ApiGenericResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataHandlerImplTest {
+
+    @Mock
+    private UnitServicePort unitServicePort;
+
+    @Mock
+    private DocumentTypeServicePort documentTypeServicePort;
+
+    @Mock
+    private GetSubscriptionPlansServicePort subscriptionPlansServicePort;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ReferenceDataHandlerImpl handler;
+
+    private final List<UnitDomain> units = List.of(UnitDomain.builder()
+            .id(UUID.randomUUID())
+            .name("Gram")
+            .abbreviation("g")
+            .type(UnitType.MASS)
+            .isBase(true)
+            .factorToBase(BigDecimal.ONE)
+            .build());
+    private final List<SubscriptionPlan> plans = List.of(SubscriptionPlan.builder()
+            .id(UUID.randomUUID())
+            .name("Standard")
+            .build());
+    private final DocumentTypeDomain nit = DocumentTypeDomain.builder()
+            .id(UUID.randomUUID()).name("NIT").countryCode("CO").build();
+    private final DocumentTypeDomain rfc = DocumentTypeDomain.builder()
+            .id(UUID.randomUUID()).name("RFC").countryCode("MX").build();
+
+    @BeforeEach
+    void setUp() {
+        handler = new ReferenceDataHandlerImpl(unitServicePort, new UnitServiceMapper(),
+                documentTypeServicePort, new DocumentTypeServiceMapper(),
+                subscriptionPlansServicePort, new SubscriptionMapper(), objectMapper);
+        when(unitServicePort.getAllUnits()).thenReturn(units);
+        when(subscriptionPlansServicePort.getPlans()).thenReturn(plans);
+    }
+
+    @Test
+    void shouldReuseBundleWhileSnapshotsAreUnchanged() throws Exception {
+        when(documentTypeServicePort.getAllByCountry()).thenReturn(Map.of("MX", List.of(rfc), "CO", List.of(nit)));
+
+        ReferenceDataBundle first = handler.getBundle();
+        ReferenceDataBundle second = handler.getBundle();
+
+        assertSame(first, second);
+        assertEquals(64, first.etag().length());
+        // The cached payload is embedded as-is in a per-request envelope
+        JsonNode envelope = objectMapper.readTree(
+                objectMapper.writeValueAsString(ApiGenericResponse.success(first.payload())));
+        assertTrue(envelope.get("success").asBoolean());
+        assertTrue(envelope.hasNonNull("timestamp"));
+        JsonNode data = envelope.get("data");
+        assertEquals("g", data.get("units").get(0).get("abbreviation").asText());
+        assertEquals(List.of("CO", "MX"), names(data.get("documentTypesByCountry").fieldNames()));
+        assertEquals("Standard", data.get("subscriptionPlans").get(0).get("name").asText());
+    }
+
+    @Test
+    void shouldKeepEtagForEqualContentAndChangeItForNewContent() {
+        Map<String, List<DocumentTypeDomain>> ordered = new LinkedHashMap<>();
+        ordered.put("MX", List.of(rfc));
+        ordered.put("CO", List.of(nit));
+        when(documentTypeServicePort.getAllByCountry())
+                .thenReturn(Map.of("CO", List.of(nit), "MX", List.of(rfc)))
+                .thenReturn(ordered)
+                .thenReturn(Map.of("CO", List.of(nit)));
+
+        String original = handler.getBundle().etag();
+        String reloadedSameContent = handler.getBundle().etag();
+        String reloadedNewContent = handler.getBundle().etag();
+
+        assertEquals(original, reloadedSameContent);
+        assertNotEquals(original, reloadedNewContent);
+        assertTrue(reloadedNewContent.matches("[0-9a-f]{64}"));
+    }
+
+    private static List<String> names(Iterator<String> fieldNames) {
+        List<String> names = new ArrayList<>();
+        fieldNames.forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,209 @@
+package com.beet.backend.modules.restaurant.domain.usecase;
+
+import com.beet.backend.modules.restaurant.domain.exception.RestaurantLimitExceededException;
+import com.beet.backend.modules.restaurant.domain.exception.RestaurantVersionConflictException;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantDomain;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantSettings;
+import com.beet.backend.modules.restaurant.domain.model.RestaurantValidation;
+import com.beet.backend.modules.restaurant.domain.spi.RestaurantPersistencePort;
+import com.beet.backend.shared.domain.model.OperationMode;
+import com.beet.backend.shared.infrastructure.config.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Guards the number of SQL statements behind restaurant create/update validation,
+ * and the plan limit under concurrent creates.
+ * Needs Docker; skipped otherwise.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(SqlStatementCounter.class)
+class RestaurantUseCaseIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private RestaurantUseCase restaurantUseCase;
+
+    @Autowired
+    private RestaurantPersistencePort persistencePort;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        jdbcClient.sql("""
+                INSERT INTO users (id, email, password_hash, first_name, first_lastname, subscription_plan_id)
+                VALUES (:id, :email, 'hash', 'Owner', 'Test',
+                        (SELECT id FROM subscription_plans WHERE name = 'Standard'))
+                """)
+                .param("id", ownerId)
+                .param("email", ownerId + "@beet.test")
+                .update();
+    }
+
+    @Test
+    void shouldValidateInOneStatement() {
+        sqlStatementCounter.reset();
+
+        RestaurantValidation validation = persistencePort.validate(ownerId, "Central", "Main St 1", "3000000",
+                null);
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+        assertThat(validation.maxRestaurants()).isEqualTo(1);
+        assertThat(validation.restaurantsUsed()).isZero();
+        assertThat(validation.nameTaken()).isFalse();
+    }
+
+    @Test
+    void shouldCreateWithOneValidationStatementBeforeInsert() {
+        sqlStatementCounter.reset();
+
+        restaurantUseCase.create(restaurant("Central"));
+
+        // owner lock + validation + usage reservation + restaurant insert + current role lookup + role insert
+        assertThat(sqlStatementCounter.count()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void shouldTrackUsageInTheCreateTransaction() {
+        restaurantUseCase.create(restaurant("Central"));
+
+        Integer used = jdbcClient.sql("SELECT restaurants_used FROM owner_usage WHERE owner_id = :ownerId")
+                .param("ownerId", ownerId)
+                .query(Integer.class)
+                .single();
+        assertThat(used).isEqualTo(1);
+        assertThat(persistencePort.validate(ownerId, null, null, null, null).restaurantsUsed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectOverPlanLimitWithSingleStatement() {
+        restaurantUseCase.create(restaurant("Central"));
+        sqlStatementCounter.reset();
+
+        assertThatThrownBy(() -> restaurantUseCase.create(restaurant("Second")))
+                .isInstanceOf(RestaurantLimitExceededException.class);
+        // owner lock + validation
+        assertThat(sqlStatementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotExceedPlanLimitUnderConcurrentCreates() throws Exception {
+        int attempts = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                String name = "Concurrent " + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return restaurantUseCase.create(restaurant(name));
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(RestaurantLimitExceededException.class);
+                }
+            }
+            assertThat(created).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(persistencePort.findAllByOwnerId(ownerId)).hasSize(1);
+        assertThat(persistencePort.validate(ownerId, null, null, null, null).restaurantsUsed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFlagConflictsExceptForTheRestaurantBeingUpdated() {
+        var created = restaurantUseCase.create(restaurant("Central"));
+
+        RestaurantValidation forOther = persistencePort.validate(ownerId, "Central", null, null, null);
+        RestaurantValidation forSelf = persistencePort.validate(ownerId, "Central", null, null, created.id());
+
+        assertThat(forOther.nameTaken()).isTrue();
+        assertThat(forSelf.nameTaken()).isFalse();
+        assertThat(forOther.limitReached()).isTrue();
+    }
+
+    @Test
+    void shouldUpdateInOneStatementWithoutReadingFirst() {
+        var created = restaurantUseCase.create(restaurant("Central"));
+        sqlStatementCounter.reset();
+
+        RestaurantDomain updated = restaurantUseCase.update(RestaurantDomain.builder()
+                .id(created.id())
+                .ownerId(ownerId)
+                .name("Central Renamed")
+                .isActive(false)
+                .version(created.version())
+                .build());
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+        assertThat(updated.getName()).isEqualTo("Central Renamed");
+        assertThat(updated.getIsActive()).isFalse();
+        assertThat(updated.getAddress()).isEqualTo("Central address");
+        assertThat(updated.getVersion()).isEqualTo(created.version() + 1);
+    }
+
+    @Test
+    void shouldRejectStaleVersion() {
+        var created = restaurantUseCase.create(restaurant("Central"));
+        restaurantUseCase.update(RestaurantDomain.builder()
+                .id(created.id()).ownerId(ownerId).isActive(false).build());
+
+        assertThatThrownBy(() -> restaurantUseCase.update(RestaurantDomain.builder()
+                .id(created.id()).ownerId(ownerId).isActive(true).version(created.version()).build()))
+                .isInstanceOf(RestaurantVersionConflictException.class);
+    }
+
+    private RestaurantDomain restaurant(String name) {
+        return RestaurantDomain.builder()
+                .name(name)
+                .address(name + " address")
+                .phoneNumber(String.valueOf(Math.abs(name.hashCode())))
+                .operationMode(OperationMode.PREPAID)
+                .isActive(true)
+                .ownerId(ownerId)
+                .settings(RestaurantSettings.builder().build())
+                .build();
+    }
+}
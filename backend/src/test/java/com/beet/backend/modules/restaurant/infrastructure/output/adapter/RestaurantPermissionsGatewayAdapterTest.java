@@ -0,0 +1,102 @@
+package com.beet.backend.modules.restaurant.infrastructure.output.adapter;
+
+import com.beet.backend.modules.restaurant.infrastructure.output.mapper.RestaurantPermissionProjectionMapper;
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.infrastructure.output.persistence.jdbc.aggregate.Permissions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RestaurantPermissionsGatewayAdapterTest {
+
+    private final RestaurantPermissionRepository repository = mock(RestaurantPermissionRepository.class);
+    private final RoleCatalogServicePort roleCatalogServicePort = mock(RoleCatalogServicePort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID userId = UUID.randomUUID();
+    private final UUID restaurantId = UUID.randomUUID();
+
+    private RestaurantPermissionsGatewayAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RestaurantPermissionsGatewayAdapter(repository, new RestaurantPermissionProjectionMapper(),
+                roleCatalogServicePort, meterRegistry, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        when(repository.findByRestaurantIdAndUserId(restaurantId, userId)).thenReturn(projection("Owner"));
+
+        adapter.getMyPermissionsForRestaurant(restaurantId, userId);
+        adapter.getMyPermissionsForRestaurant(restaurantId, userId);
+
+        verify(repository, times(1)).findByRestaurantIdAndUserId(restaurantId, userId);
+        assertEquals(1.0, cacheGets("hit"));
+        assertEquals(1.0, cacheGets("miss"));
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        when(repository.findByRestaurantIdAndUserId(restaurantId, userId))
+                .thenReturn(projection("Cashier"), projection("Owner"));
+
+        adapter.getMyPermissionsForRestaurant(restaurantId, userId);
+        adapter.evict(restaurantId, userId);
+
+        assertEquals("Owner", adapter.getMyPermissionsForRestaurant(restaurantId, userId).getRoleName());
+    }
+
+    @Test
+    void shouldAttachPermissionsFromRoleCatalog() {
+        PermissionProjection projection = projection("Owner");
+        Map<PermissionModule, List<PermissionAction>> permissions = Map.of(
+                PermissionModule.INVENTORY, List.of(PermissionAction.CREATE));
+        when(repository.findByRestaurantIdAndUserId(restaurantId, userId)).thenReturn(projection);
+        when(roleCatalogServicePort.findById(projection.getRoleId())).thenReturn(Optional.of(RoleDomain.builder()
+                .id(projection.getRoleId())
+                .permissions(new Permissions(permissions))
+                .build()));
+
+        assertEquals(permissions, adapter.getMyPermissionsForRestaurant(restaurantId, userId).getPermissions());
+    }
+
+    @Test
+    void shouldNotCacheMissingPermissions() {
+        assertNull(adapter.getMyPermissionsForRestaurant(restaurantId, userId));
+        adapter.getMyPermissionsForRestaurant(restaurantId, userId);
+
+        verify(repository, times(2)).findByRestaurantIdAndUserId(restaurantId, userId);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", RestaurantPermissionsGatewayAdapter.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter().count();
+    }
+
+    private PermissionProjection projection(String roleName) {
+        PermissionProjection projection = new PermissionProjection();
+        projection.setRestaurantId(restaurantId);
+        projection.setUserId(userId);
+        projection.setRoleId(UUID.randomUUID());
+        projection.setRoleName(roleName);
+        return projection;
+    }
+}
@@ -0,0 +1,54 @@
+package com.beet.backend.modules.role.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermissionMatrixTest {
+
+    @Test
+    void shouldAllowOnlyGrantedActionsOfGrantedModule() {
+        PermissionMatrix matrix = PermissionMatrix.of(Map.of(
+                PermissionModule.INVENTORY, List.of(PermissionAction.READ, PermissionAction.UPDATE)));
+
+        assertTrue(matrix.allows(PermissionModule.INVENTORY, PermissionAction.READ));
+        assertTrue(matrix.allows(PermissionModule.INVENTORY, PermissionAction.UPDATE));
+        assertFalse(matrix.allows(PermissionModule.INVENTORY, PermissionAction.DELETE));
+        assertFalse(matrix.allows(PermissionModule.RECIPES, PermissionAction.READ));
+    }
+
+    @Test
+    void shouldExpandManageAndAllActionsToEveryAction() {
+        PermissionMatrix matrix = PermissionMatrix.of(Map.of(
+                PermissionModule.CASH, List.of(PermissionAction.MANAGE),
+                PermissionModule.KDS, List.of(PermissionAction.ALL)));
+
+        for (PermissionAction action : PermissionAction.values()) {
+            assertTrue(matrix.allows(PermissionModule.CASH, action));
+            assertTrue(matrix.allows(PermissionModule.KDS, action));
+        }
+        assertFalse(matrix.allows(PermissionModule.ORDERS, PermissionAction.READ));
+    }
+
+    @Test
+    void shouldExpandAllModuleToEveryModule() {
+        PermissionMatrix matrix = PermissionMatrix.of(Map.of(
+                PermissionModule.ALL, List.of(PermissionAction.READ)));
+
+        for (PermissionModule module : PermissionModule.values()) {
+            assertTrue(matrix.allows(module, PermissionAction.READ));
+            assertFalse(matrix.allows(module, PermissionAction.DELETE));
+        }
+    }
+
+    @Test
+    void shouldDenyEverythingForMissingPermissions() {
+        assertEquals(PermissionMatrix.EMPTY, PermissionMatrix.of(null));
+        assertFalse(PermissionMatrix.EMPTY.allows(PermissionModule.ALL, PermissionAction.ALL));
+    }
+}
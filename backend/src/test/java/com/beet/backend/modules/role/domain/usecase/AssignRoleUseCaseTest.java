@@ -0,0 +1,74 @@
+package com.beet.backend.modules.role.domain.usecase;
+
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.domain.spi.RoleAccessGateway;
+import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssignRoleUseCaseTest {
+
+    @Mock
+    private RolePersistencePort persistencePort;
+    @Mock
+    private RoleAccessGateway accessGateway;
+    @Mock
+    private RoleCatalogServicePort roleCatalogServicePort;
+
+    @InjectMocks
+    private AssignRoleUseCase assignRoleUseCase;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID roleId = UUID.randomUUID();
+    private final RoleDomain owner = RoleDomain.builder().id(roleId).name("Owner").build();
+
+    @Test
+    void shouldNotRevokeTokensWhenAddingFirstRoleInRestaurant() {
+        when(roleCatalogServicePort.findByName("Owner")).thenReturn(Optional.of(owner));
+        when(persistencePort.findRoleByUserIdAndRestaurantId(userId, restaurantId)).thenReturn(Optional.empty());
+
+        assignRoleUseCase.assignRole(userId, restaurantId, "Owner", userId);
+
+        verify(persistencePort).assignRoleToUser(userId, restaurantId, roleId, userId);
+        verify(accessGateway).evictPermissions(userId, restaurantId);
+        verify(accessGateway, never()).revokeIssuedTokens(any());
+    }
+
+    @Test
+    void shouldRevokeTokensWhenRoleInRestaurantChanges() {
+        when(roleCatalogServicePort.findByName("Owner")).thenReturn(Optional.of(owner));
+        when(persistencePort.findRoleByUserIdAndRestaurantId(userId, restaurantId))
+                .thenReturn(Optional.of(RoleDomain.builder().id(UUID.randomUUID()).name("Cashier").build()));
+
+        assignRoleUseCase.assignRole(userId, restaurantId, "Owner", userId);
+
+        verify(accessGateway).revokeIssuedTokens(userId);
+        verify(accessGateway).evictPermissions(userId, restaurantId);
+    }
+
+    @Test
+    void shouldSkipExistingAssignment() {
+        when(roleCatalogServicePort.findByName("Owner")).thenReturn(Optional.of(owner));
+        when(persistencePort.findRoleByUserIdAndRestaurantId(userId, restaurantId)).thenReturn(Optional.of(owner));
+
+        assignRoleUseCase.assignRole(userId, restaurantId, "Owner", userId);
+
+        verify(persistencePort, never()).assignRoleToUser(any(), any(), any(), any());
+        verify(accessGateway, never()).revokeIssuedTokens(any());
+        verify(accessGateway, never()).evictPermissions(any(), any());
+    }
+}
@@ -0,0 +1,82 @@
+package com.beet.backend.modules.role.domain.usecase;
+
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionMatrix;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import com.beet.backend.modules.role.infrastructure.output.persistence.jdbc.aggregate.Permissions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleCatalogUseCaseTest {
+
+    @Mock
+    private RolePersistencePort persistencePort;
+
+    @InjectMocks
+    private RoleCatalogUseCase roleCatalogUseCase;
+
+    private final RoleDomain owner = RoleDomain.builder()
+            .id(UUID.randomUUID())
+            .name("Owner")
+            .permissions(new Permissions(Map.of(PermissionModule.INVENTORY, List.of(PermissionAction.CREATE))))
+            .build();
+    private final RoleDomain restaurantOwner = RoleDomain.builder()
+            .id(UUID.randomUUID())
+            .name("Owner")
+            .restaurantId(UUID.randomUUID())
+            .build();
+
+    @Test
+    void shouldServeLookupsFromPreloadedRoles() {
+        when(persistencePort.findAllRoles()).thenReturn(List.of(owner, restaurantOwner));
+        roleCatalogUseCase.preload();
+
+        assertEquals(owner, roleCatalogUseCase.findByName("Owner").orElseThrow());
+        assertEquals(restaurantOwner, roleCatalogUseCase.findById(restaurantOwner.getId()).orElseThrow());
+        assertTrue(roleCatalogUseCase.getPermissionMatrix(owner.getId())
+                .allows(PermissionModule.INVENTORY, PermissionAction.CREATE));
+
+        verify(persistencePort, times(1)).findAllRoles();
+        verify(persistencePort, never()).findRoleById(any());
+        verify(persistencePort, never()).findRoleIdByName(any());
+    }
+
+    @Test
+    void shouldReloadWhenRoleWasCreatedAfterPreload() {
+        when(persistencePort.findAllRoles()).thenReturn(List.of(), List.of(owner));
+        when(persistencePort.findRoleById(owner.getId())).thenReturn(Optional.of(owner));
+        roleCatalogUseCase.preload();
+
+        assertEquals(owner, roleCatalogUseCase.findById(owner.getId()).orElseThrow());
+        verify(persistencePort, times(2)).findAllRoles();
+    }
+
+    @Test
+    void shouldNotReloadForUnknownRole() {
+        UUID unknownId = UUID.randomUUID();
+        when(persistencePort.findAllRoles()).thenReturn(List.of(owner));
+        roleCatalogUseCase.preload();
+
+        assertEquals(PermissionMatrix.EMPTY, roleCatalogUseCase.getPermissionMatrix(unknownId));
+        verify(persistencePort, times(1)).findAllRoles();
+    }
+}
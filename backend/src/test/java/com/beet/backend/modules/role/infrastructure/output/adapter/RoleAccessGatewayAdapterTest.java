@@ -0,0 +1,66 @@
+package com.beet.backend.modules.role.infrastructure.output.adapter;
+
+import com.beet.backend.modules.restaurant.domain.spi.RestaurantPermissionsGateway;
+import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.beet.backend.shared.infrastructure.security.TokenVersionValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RoleAccessGatewayAdapterTest {
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+    @Mock
+    private TokenVersionValidator tokenVersionValidator;
+    @Mock
+    private RestaurantPermissionsGateway restaurantPermissionsGateway;
+
+    @InjectMocks
+    private RoleAccessGatewayAdapter adapter;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID restaurantId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldEvictOnlyAfterCommitInsideTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.evictPermissions(userId, restaurantId);
+        adapter.revokeIssuedTokens(userId);
+
+        verify(userPersistencePort).incrementTokenVersion(userId);
+        verify(restaurantPermissionsGateway, never()).evict(restaurantId, userId);
+        verify(tokenVersionValidator, never()).invalidate(userId);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(restaurantPermissionsGateway).evict(restaurantId, userId);
+        verify(tokenVersionValidator).invalidate(userId);
+    }
+
+    @Test
+    void shouldEvictImmediatelyWithoutTransaction() {
+        adapter.evictPermissions(userId, restaurantId);
+
+        verify(restaurantPermissionsGateway).evict(restaurantId, userId);
+    }
+}
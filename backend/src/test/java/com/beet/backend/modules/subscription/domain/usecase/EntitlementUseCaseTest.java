@@ -0,0 +1,92 @@
+package com.beet.backend.modules.subscription.domain.usecase;
+
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionFeatures;
+import com.beet.backend.modules.subscription.domain.model.SubscriptionPlan;
+import com.beet.backend.modules.subscription.domain.spi.OwnerPlanPersistencePort;
+import com.beet.backend.modules.subscription.domain.spi.SubscriptionPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntitlementUseCaseTest {
+
+    @Mock
+    private SubscriptionPersistencePort subscriptionPersistencePort;
+
+    @Mock
+    private OwnerPlanPersistencePort ownerPlanPersistencePort;
+
+    private SubscriptionPlanCatalogUseCase planCatalog;
+    private EntitlementUseCase entitlementUseCase;
+
+    private final SubscriptionPlan premium = SubscriptionPlan.builder()
+            .id(UUID.randomUUID())
+            .name("Premium")
+            .features(SubscriptionFeatures.builder().maxRestaurants(5).advancedReporting(true).build())
+            .build();
+    private final SubscriptionPlan standard = SubscriptionPlan.builder()
+            .id(UUID.randomUUID())
+            .name("Standard")
+            .features(SubscriptionFeatures.builder().maxRestaurants(1).build())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        planCatalog = new SubscriptionPlanCatalogUseCase(subscriptionPersistencePort);
+        entitlementUseCase = new EntitlementUseCase(ownerPlanPersistencePort, planCatalog);
+    }
+
+    @Test
+    void shouldCheckFeaturesAgainstPreloadedPlans() {
+        UUID premiumOwner = UUID.randomUUID();
+        UUID standardOwner = UUID.randomUUID();
+        when(subscriptionPersistencePort.findAll()).thenReturn(List.of(premium, standard));
+        when(ownerPlanPersistencePort.findPlanIdByOwnerId(premiumOwner)).thenReturn(Optional.of(premium.getId()));
+        when(ownerPlanPersistencePort.findPlanIdByOwnerId(standardOwner)).thenReturn(Optional.of(standard.getId()));
+        planCatalog.preload();
+
+        assertTrue(entitlementUseCase.isEnabled(premiumOwner, PlanFeature.ADVANCED_REPORTING));
+        assertFalse(entitlementUseCase.isEnabled(standardOwner, PlanFeature.ADVANCED_REPORTING));
+
+        verify(subscriptionPersistencePort, times(1)).findAll();
+        verify(subscriptionPersistencePort, never()).findById(any());
+    }
+
+    @Test
+    void shouldDenyFeaturesToOwnersWithoutPlan() {
+        UUID owner = UUID.randomUUID();
+        when(subscriptionPersistencePort.findAll()).thenReturn(List.of(premium));
+        when(ownerPlanPersistencePort.findPlanIdByOwnerId(owner)).thenReturn(Optional.empty());
+        planCatalog.preload();
+
+        assertFalse(entitlementUseCase.isEnabled(owner, PlanFeature.ADVANCED_REPORTING));
+    }
+
+    @Test
+    void shouldReloadCatalogWhenPlanWasCreatedAfterPreload() {
+        UUID owner = UUID.randomUUID();
+        when(subscriptionPersistencePort.findAll()).thenReturn(List.of(), List.of(premium));
+        when(subscriptionPersistencePort.findById(premium.getId())).thenReturn(Optional.of(premium));
+        when(ownerPlanPersistencePort.findPlanIdByOwnerId(owner)).thenReturn(Optional.of(premium.getId()));
+        planCatalog.preload();
+
+        assertTrue(entitlementUseCase.isEnabled(owner, PlanFeature.ADVANCED_REPORTING));
+        verify(subscriptionPersistencePort, times(2)).findAll();
+    }
+}
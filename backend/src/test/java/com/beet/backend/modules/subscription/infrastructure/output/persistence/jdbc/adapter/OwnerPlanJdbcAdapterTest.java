@@ -0,0 +1,75 @@
+package com.beet.backend.modules.subscription.infrastructure.output.persistence.jdbc.adapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerPlanJdbcAdapterTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private JdbcClient jdbcClient;
+
+    private OwnerPlanJdbcAdapter adapter;
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID standardPlanId = UUID.randomUUID();
+    private final UUID premiumPlanId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OwnerPlanJdbcAdapter(jdbcClient, new SimpleMeterRegistry(), Duration.ofMinutes(10), 100);
+        when(jdbcClient.sql(anyString()).param("ownerId", ownerId).query(UUID.class).optional())
+                .thenReturn(Optional.of(standardPlanId), Optional.of(premiumPlanId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldEvictOnlyAfterCommitInsideTransaction() {
+        assertEquals(Optional.of(standardPlanId), adapter.findPlanIdByOwnerId(ownerId));
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.evict(ownerId);
+
+        // Still the pre-change plan until the plan change commits
+        assertEquals(Optional.of(standardPlanId), adapter.findPlanIdByOwnerId(ownerId));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(Optional.of(premiumPlanId), adapter.findPlanIdByOwnerId(ownerId));
+        verify(jdbcClient.sql(anyString()).param("ownerId", ownerId).query(UUID.class), times(2)).optional();
+    }
+
+    @Test
+    void shouldEvictImmediatelyWithoutTransaction() {
+        assertEquals(Optional.of(standardPlanId), adapter.findPlanIdByOwnerId(ownerId));
+
+        adapter.evict(ownerId);
+
+        assertEquals(Optional.of(premiumPlanId), adapter.findPlanIdByOwnerId(ownerId));
+    }
+}
@@ -0,0 +1,109 @@
+package com.beet.backend.modules.unit.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of converting a batch of quantities between arbitrary units of the same type.
+ * <p>
+ * {@code viaBaseUnit} is the inline approach: look the units up and go through the base
+ * unit with BigDecimal math. {@code matrixById} reads the precomputed
+ * {@link UnitConversionMatrix} per conversion; {@code matrixByOrdinal} resolves ordinals
+ * once and reads the {@code double[][]} table directly, as a recipe or stock loop would.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.beet.backend.modules.unit.domain.model.UnitConversionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConversionBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    private Map<UUID, UnitDomain> unitsById;
+    private UnitConversionMatrix matrix;
+    private UUID[] from;
+    private UUID[] to;
+    private int[] fromOrdinal;
+    private int[] toOrdinal;
+    private double[] quantities;
+
+    @Setup
+    public void setUp() {
+        List<UnitDomain> mass = List.of(
+                unit("g", "1"), unit("kg", "1000"), unit("lb453", "453.592"),
+                unit("lb500", "500"), unit("oz", "28.3495"));
+        unitsById = mass.stream().collect(Collectors.toMap(UnitDomain::getId, Function.identity()));
+        matrix = UnitConversionMatrix.of(mass);
+
+        Random random = new Random(42);
+        from = new UUID[BATCH];
+        to = new UUID[BATCH];
+        fromOrdinal = new int[BATCH];
+        toOrdinal = new int[BATCH];
+        quantities = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            from[i] = mass.get(random.nextInt(mass.size())).getId();
+            to[i] = mass.get(random.nextInt(mass.size())).getId();
+            fromOrdinal[i] = matrix.ordinal(from[i]);
+            toOrdinal[i] = matrix.ordinal(to[i]);
+            quantities[i] = 1 + random.nextDouble() * 100;
+        }
+    }
+
+    @Benchmark
+    public void viaBaseUnit(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            BigDecimal inBase = BigDecimal.valueOf(quantities[i]).multiply(unitsById.get(from[i]).getFactorToBase());
+            blackhole.consume(inBase.divide(unitsById.get(to[i]).getFactorToBase(), MathContext.DECIMAL64));
+        }
+    }
+
+    @Benchmark
+    public void matrixById(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(matrix.convert(quantities[i], from[i], to[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] matrixByOrdinal() {
+        double[] converted = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            converted[i] = quantities[i] * matrix.factor(UnitType.MASS, fromOrdinal[i], toOrdinal[i]);
+        }
+        return converted;
+    }
+
+    private static UnitDomain unit(String abbreviation, String factorToBase) {
+        return UnitDomain.builder()
+                .id(UUID.randomUUID())
+                .abbreviation(abbreviation)
+                .type(UnitType.MASS)
+                .factorToBase(new BigDecimal(factorToBase))
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UnitConversionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
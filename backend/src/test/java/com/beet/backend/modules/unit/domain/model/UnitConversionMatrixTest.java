@@ -0,0 +1,63 @@
+package com.beet.backend.modules.unit.domain.model;
+
+import com.beet.backend.modules.unit.domain.exception.UnitConversionException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class UnitConversionMatrixTest {
+
+    private final UnitDomain gram = unit("g", UnitType.MASS, "1");
+    private final UnitDomain kilogram = unit("kg", UnitType.MASS, "1000");
+    private final UnitDomain pound = unit("lb453", UnitType.MASS, "453.592");
+    private final UnitDomain milliliter = unit("ml", UnitType.VOLUME, "1");
+    private final UnitDomain gallon = unit("gal", UnitType.VOLUME, "3785.41");
+    private final UnitDomain fluidOunce = unit("fl oz", UnitType.VOLUME, "29.5735");
+
+    private final UnitConversionMatrix matrix = UnitConversionMatrix.of(
+            List.of(gram, kilogram, pound, milliliter, gallon, fluidOunce));
+
+    @Test
+    void shouldConvertBetweenAnyPairOfTheSameType() {
+        assertThat(matrix.convert(2, pound.getId(), kilogram.getId())).isCloseTo(0.907184, within(1e-12));
+        // The seeded factors are rounded, so a gallon is 3785.41 / 29.5735 fl oz, not exactly 128
+        assertThat(matrix.convert(1, gallon.getId(), fluidOunce.getId())).isCloseTo(128.0000676, within(1e-7));
+        assertThat(matrix.convert(2.5, kilogram.getId(), gram.getId())).isEqualTo(2500);
+        assertThat(matrix.factor(gram.getId(), gram.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExposeOrdinalsForTheUncheckedFastPath() {
+        int from = matrix.ordinal(gallon.getId());
+        int to = matrix.ordinal(milliliter.getId());
+
+        assertThat(matrix.typeOf(gallon.getId())).isEqualTo(UnitType.VOLUME);
+        assertThat(matrix.factor(UnitType.VOLUME, from, to)).isEqualTo(matrix.factor(gallon.getId(), milliliter.getId()));
+    }
+
+    @Test
+    void shouldRejectUnknownOrMismatchedUnits() {
+        assertThatThrownBy(() -> matrix.factor(kilogram.getId(), gallon.getId()))
+                .isInstanceOf(UnitConversionException.class)
+                .hasMessageContaining("kg (MASS)");
+        assertThatThrownBy(() -> matrix.factor(UUID.randomUUID(), gram.getId()))
+                .isInstanceOf(UnitConversionException.class);
+        assertThatThrownBy(() -> UnitConversionMatrix.EMPTY.ordinal(gram.getId()))
+                .isInstanceOf(UnitConversionException.class);
+    }
+
+    private static UnitDomain unit(String abbreviation, UnitType type, String factorToBase) {
+        return UnitDomain.builder()
+                .id(UUID.randomUUID())
+                .abbreviation(abbreviation)
+                .type(type)
+                .factorToBase(new BigDecimal(factorToBase))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.beet.backend.modules.unit.domain.usecase;
+
+import com.beet.backend.modules.unit.domain.model.UnitDomain;
+import com.beet.backend.modules.unit.domain.model.UnitType;
+import com.beet.backend.modules.unit.domain.spi.UnitPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnitUseCaseTest {
+
+    @Mock
+    private UnitPersistencePort persistencePort;
+
+    private UnitUseCase unitUseCase;
+
+    private final UnitDomain gram = unit("g", true, "1");
+    private final UnitDomain kilogram = unit("kg", false, "1000");
+
+    @BeforeEach
+    void setUp() {
+        unitUseCase = new UnitUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldServeLookupsFromPreloadedRegistry() {
+        when(persistencePort.findAllWithConversions()).thenReturn(List.of(gram, kilogram));
+        unitUseCase.preload();
+
+        assertSame(kilogram, unitUseCase.findById(kilogram.getId()));
+        assertSame(kilogram, unitUseCase.findByAbbreviation("KG"));
+        assertSame(gram, unitUseCase.findByAbbreviation(" g "));
+        assertNull(unitUseCase.findById(UUID.randomUUID()));
+        assertNull(unitUseCase.findByAbbreviation(null));
+
+        verify(persistencePort, times(1)).findAllWithConversions();
+    }
+
+    @Test
+    void shouldPickUpChangesOnReload() {
+        UnitDomain liter = unit("L", false, "1000");
+        when(persistencePort.findAllWithConversions())
+                .thenReturn(List.of(gram))
+                .thenReturn(List.of(gram, liter));
+
+        assertNull(unitUseCase.findById(liter.getId())); // first lookup loads lazily
+        unitUseCase.reload();
+
+        assertSame(liter, unitUseCase.findById(liter.getId()));
+        verify(persistencePort, times(2)).findAllWithConversions();
+    }
+
+    private static UnitDomain unit(String abbreviation, boolean isBase, String factorToBase) {
+        return UnitDomain.builder()
+                .id(UUID.randomUUID())
+                .abbreviation(abbreviation)
+                .type(UnitType.MASS)
+                .isBase(isBase)
+                .factorToBase(new BigDecimal(factorToBase))
+                .build();
+    }
+}
@@ -45,10 +45,6 @@ class RegisterUserUseCaseTest {
                 .subscriptionPlanId(planId)
                 .build();
 
-        when(userPersistencePort.existsByEmail(any())).thenReturn(false);
-        when(userPersistencePort.existsByUsername(any())).thenReturn(false);
-        when(userPersistencePort.existsByPhoneNumber(any())).thenReturn(false);
-        when(userPersistencePort.existsSubscriptionPlan(planId)).thenReturn(true);
         when(passwordEncoder.encode("password123")).thenReturn("hashed_password");
 
         // Mock save to return a user with an ID simulating DB generation
@@ -78,26 +74,50 @@ class RegisterUserUseCaseTest {
         assertNull(result.getOwnerId()); // Should be null for Owner
         assertEquals("John Doe", result.getFullName());
 
-        // Verify that save was called with a user that has NO ID yet
+        // Verify that save was called with a user that has NO ID yet, and nothing else ran
         verify(userPersistencePort).save(argThat(u -> u.getId() == null));
+        verifyNoMoreInteractions(userPersistencePort);
     }
 
     @Test
     void shouldThrowException_WhenEmailExists() {
-        // Arrange
-        User inputUser = User.builder().email("test@example.com").build();
-        when(userPersistencePort.existsByEmail("test@example.com")).thenReturn(true);
+        // Arrange: the unique constraint reports the duplicate on insert
+        User inputUser = validUser(UUID.randomUUID());
+        when(passwordEncoder.encode("password123")).thenReturn("hashed_password");
+        when(userPersistencePort.save(any(User.class)))
+                .thenThrow(UserAlreadyExistsException.forEmail("test@example.com"));
 
         // Act & Assert
-        assertThrows(UserAlreadyExistsException.class, () -> useCase.register(inputUser));
-        verify(userPersistencePort, never()).save(any());
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> useCase.register(inputUser));
+        assertEquals("Email already in use: test@example.com", ex.getMessage());
+        verify(userPersistencePort, times(1)).save(any());
     }
 
     @Test
     void shouldThrowException_WhenPlanNotFound() {
-        // Arrange
+        // Arrange: the plan foreign key rejects the insert
         UUID planId = UUID.randomUUID();
-        User inputUser = User.builder()
+        User inputUser = validUser(planId);
+        when(passwordEncoder.encode("password123")).thenReturn("hashed_password");
+        when(userPersistencePort.save(any(User.class))).thenThrow(SubscriptionPlanNotFoundException.forId(planId));
+
+        // Act & Assert
+        assertThrows(SubscriptionPlanNotFoundException.class, () -> useCase.register(inputUser));
+    }
+
+    @Test
+    void shouldThrowException_WhenPlanMissing() {
+        // Arrange
+        User inputUser = validUser(null);
+
+        // Act & Assert
+        assertThrows(SubscriptionPlanNotFoundException.class, () -> useCase.register(inputUser));
+        verifyNoInteractions(userPersistencePort, passwordEncoder);
+    }
+
+    private static User validUser(UUID planId) {
+        return User.builder()
                 .email("test@example.com")
                 .password("password123")
                 .firstName("John")
@@ -106,11 +126,5 @@ class RegisterUserUseCaseTest {
                 .username("johndoe")
                 .subscriptionPlanId(planId)
                 .build();
-
-        when(userPersistencePort.existsByEmail(any())).thenReturn(false);
-        when(userPersistencePort.existsSubscriptionPlan(planId)).thenReturn(false);
-
-        // Act & Assert
-        assertThrows(SubscriptionPlanNotFoundException.class, () -> useCase.register(inputUser));
     }
 }
@@ -1,42 +1,52 @@
 package com.beet.backend.modules.user.application.usecase;
 
-import com.beet.backend.modules.user.application.dto.LoginRequest;
 import com.beet.backend.modules.user.application.dto.LoginResponse;
 import com.beet.backend.modules.user.application.dto.UserResponse;
 import com.beet.backend.modules.user.application.mapper.UserServiceMapper;
+import com.beet.backend.modules.user.domain.api.RefreshTokenServicePort;
 import com.beet.backend.modules.user.domain.model.User;
 import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserRoleGateway;
 import com.beet.backend.modules.user.domain.usecase.LoginUserUseCaseImpl;
+import com.beet.backend.shared.infrastructure.security.CustomUserDetails;
 import com.beet.backend.shared.infrastructure.security.JwtService;
+import com.beet.backend.shared.infrastructure.security.PasswordHashingExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class LoginUserUseCaseImplTest {
 
-    @Mock
-    private AuthenticationManager authenticationManager;
     @Mock
     private UserPersistencePort userPersistencePort;
     @Mock
+    private UserRoleGateway userRoleGateway;
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+    @Mock
     private JwtService jwtService;
     @Mock
     private UserServiceMapper userServiceMapper;
+    @Mock
+    private RefreshTokenServicePort refreshTokenServicePort;
 
     @InjectMocks
     private LoginUserUseCaseImpl loginUserUseCase;
@@ -60,8 +70,13 @@ class LoginUserUseCaseImplTest {
                 .build();
 
         when(userPersistencePort.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordHashingExecutor.matches(password, "hashedPwd")).thenReturn(true);
+        UUID restaurantId = UUID.randomUUID();
+        UUID roleId = UUID.randomUUID();
+        when(userRoleGateway.getRestaurantRoles(user.getId())).thenReturn(Map.of(restaurantId, roleId));
         when(jwtService.generateToken(any(UserDetails.class))).thenReturn(token);
         when(userServiceMapper.toResponse(user)).thenReturn(userResponse);
+        when(refreshTokenServicePort.issue(user)).thenReturn("refresh-token");
 
         // Act
         LoginResponse response = loginUserUseCase.login(email, password);
@@ -70,10 +85,29 @@ class LoginUserUseCaseImplTest {
         assertNotNull(response);
         assertEquals(token, response.token());
         assertEquals(userResponse, response.user());
+        assertEquals("refresh-token", response.refreshToken());
+
+        verify(userPersistencePort, times(1)).findByEmail(email);
+        verify(jwtService).generateToken(argThat((UserDetails details) ->
+                Map.of(restaurantId, roleId).equals(((CustomUserDetails) details).getRestaurantRoles())));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPasswordDoesNotMatch() {
+        // Arrange
+        String email = "test@example.com";
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .passwordHash("hashedPwd")
+                .build();
+
+        when(userPersistencePort.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordHashingExecutor.matches("wrong", "hashedPwd")).thenReturn(false);
 
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userPersistencePort).findByEmail(email);
-        verify(jwtService).generateToken(any(UserDetails.class));
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> loginUserUseCase.login(email, "wrong"));
+        verify(jwtService, never()).generateToken(any(UserDetails.class));
     }
 
     @Test
@@ -82,9 +116,10 @@ class LoginUserUseCaseImplTest {
         String email = "nonexistent@example.com";
 
         when(userPersistencePort.findByEmail(email)).thenReturn(Optional.empty());
+        when(passwordHashingExecutor.matches(any(), isNull())).thenReturn(false);
 
         // Act & Assert
-        assertThrows(UsernameNotFoundException.class, () -> loginUserUseCase.login(email, "password"));
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        assertThrows(BadCredentialsException.class, () -> loginUserUseCase.login(email, "password"));
+        verify(passwordHashingExecutor).matches("password", null);
     }
 }
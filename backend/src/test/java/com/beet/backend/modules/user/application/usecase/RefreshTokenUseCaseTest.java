@@ -0,0 +1,125 @@
+package com.beet.backend.modules.user.application.usecase;
+
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
+import com.beet.backend.modules.user.domain.exception.InvalidRefreshTokenException;
+import com.beet.backend.modules.user.domain.model.RefreshToken;
+import com.beet.backend.modules.user.domain.model.User;
+import com.beet.backend.modules.user.domain.spi.RefreshTokenPersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserPersistencePort;
+import com.beet.backend.modules.user.domain.spi.UserRoleGateway;
+import com.beet.backend.modules.user.domain.usecase.RefreshTokenUseCase;
+import com.beet.backend.shared.infrastructure.security.JwtService;
+import com.beet.backend.shared.infrastructure.security.RefreshTokenGenerator;
+import com.beet.backend.shared.infrastructure.security.TokenVersionValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private RefreshTokenPersistencePort refreshTokenPersistencePort;
+    @Mock
+    private UserPersistencePort userPersistencePort;
+    @Mock
+    private UserRoleGateway userRoleGateway;
+    @Mock
+    private TokenVersionValidator tokenVersionValidator;
+    @Mock
+    private JwtService jwtService;
+
+    private final RefreshTokenGenerator generator = new RefreshTokenGenerator(60_000L);
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("owner@beet.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenUseCase = new RefreshTokenUseCase(refreshTokenPersistencePort, userPersistencePort,
+                userRoleGateway, generator, tokenVersionValidator, jwtService, 60_000L, 100L);
+    }
+
+    @Test
+    void shouldStoreOnlyTheHashOfIssuedToken() {
+        String rawToken = refreshTokenUseCase.issue(user);
+
+        verify(refreshTokenPersistencePort).save(argThat(token ->
+                token.getTokenHash().equals(generator.hash(rawToken))
+                        && !token.getTokenHash().equals(rawToken)
+                        && token.getUserId().equals(user.getId())));
+    }
+
+    @Test
+    void shouldRotateWithoutLoadingUserWhenSessionIsCached() {
+        String rawToken = refreshTokenUseCase.issue(user);
+        when(refreshTokenPersistencePort.consume(generator.hash(rawToken))).thenReturn(Optional.of(user.getId()));
+        when(tokenVersionValidator.isCurrent(user.getId(), 0)).thenReturn(true);
+        when(jwtService.generateToken(any(UserDetails.class))).thenReturn("new-jwt");
+
+        RefreshTokenResponse response = refreshTokenUseCase.refresh(rawToken);
+
+        assertEquals("new-jwt", response.token());
+        assertNotEquals(rawToken, response.refreshToken());
+        verify(userPersistencePort, never()).findActiveById(any());
+    }
+
+    @Test
+    void shouldRevokeAllSessionsWhenRotatedTokenIsReused() {
+        String hash = generator.hash("stolen");
+        when(refreshTokenPersistencePort.consume(hash)).thenReturn(Optional.empty());
+        when(refreshTokenPersistencePort.findByTokenHash(hash)).thenReturn(Optional.of(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(hash)
+                .revokedAt(Instant.now())
+                .build()));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenUseCase.refresh("stolen"));
+        verify(refreshTokenPersistencePort).revokeAllByUserId(user.getId());
+    }
+
+    @Test
+    void shouldRejectUnknownToken() {
+        when(refreshTokenPersistencePort.consume(any())).thenReturn(Optional.empty());
+        when(refreshTokenPersistencePort.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenUseCase.refresh("unknown"));
+        verify(refreshTokenPersistencePort, never()).revokeAllByUserId(any());
+    }
+
+    @Test
+    void shouldRejectRefreshForSoftDeletedUser() {
+        String hash = generator.hash("orphaned");
+        when(refreshTokenPersistencePort.consume(hash)).thenReturn(Optional.of(user.getId()));
+        when(userPersistencePort.findActiveById(user.getId())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenUseCase.refresh("orphaned"));
+        verify(refreshTokenPersistencePort, never()).save(any());
+    }
+
+    @Test
+    void shouldPurgeExpiredTokens() {
+        when(refreshTokenPersistencePort.deleteExpired()).thenReturn(3);
+
+        refreshTokenUseCase.purgeExpired();
+
+        verify(refreshTokenPersistencePort).deleteExpired();
+    }
+}
@@ -2,9 +2,12 @@ package com.beet.backend.modules.user.infrastructure.input.rest;
 
 import com.beet.backend.modules.user.application.dto.LoginRequest;
 import com.beet.backend.modules.user.application.dto.LoginResponse;
+import com.beet.backend.modules.user.application.dto.RefreshTokenRequest;
+import com.beet.backend.modules.user.application.dto.RefreshTokenResponse;
 import com.beet.backend.modules.user.application.dto.RegisterUserRequest;
 import com.beet.backend.modules.user.application.dto.UserResponse;
 import com.beet.backend.modules.user.application.handler.AuthHandler;
+import com.beet.backend.modules.user.domain.exception.InvalidRefreshTokenException;
 import com.beet.backend.modules.user.domain.exception.UserAlreadyExistsException;
 import com.beet.backend.modules.subscription.domain.exception.SubscriptionPlanNotFoundException;
 import com.beet.backend.shared.infrastructure.config.SecurityConfig;
@@ -58,7 +61,7 @@ class AuthControllerTest {
                                 .id(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"))
                                 .email("test@example.com")
                                 .build();
-                LoginResponse loginResponse = new LoginResponse("jwt-token", userResponse);
+                LoginResponse loginResponse = new LoginResponse("jwt-token", userResponse, "refresh-token");
                 ApiGenericResponse<LoginResponse> apiResponse = ApiGenericResponse.success(loginResponse);
 
                 when(authHandler.login(any(LoginRequest.class))).thenReturn(apiResponse);
@@ -69,7 +72,35 @@ class AuthControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.success", is(true)))
                                 .andExpect(jsonPath("$.data.token", is("jwt-token")))
-                                .andExpect(jsonPath("$.data.user.email", is("test@example.com")));
+                                .andExpect(jsonPath("$.data.user.email", is("test@example.com")))
+                                .andExpect(jsonPath("$.data.refreshToken", is("refresh-token")));
+        }
+
+        @Test
+        void shouldRefreshToken() throws Exception {
+                RefreshTokenRequest request = new RefreshTokenRequest("old-refresh-token");
+                when(authHandler.refresh(any(RefreshTokenRequest.class))).thenReturn(
+                                ApiGenericResponse.success(new RefreshTokenResponse("new-jwt", "new-refresh-token")));
+
+                mockMvc.perform(post("/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.token", is("new-jwt")))
+                                .andExpect(jsonPath("$.data.refreshToken", is("new-refresh-token")));
+        }
+
+        @Test
+        void shouldReturn401_WhenRefreshTokenIsInvalid() throws Exception {
+                RefreshTokenRequest request = new RefreshTokenRequest("used-refresh-token");
+                when(authHandler.refresh(any(RefreshTokenRequest.class)))
+                                .thenThrow(InvalidRefreshTokenException.reused());
+
+                mockMvc.perform(post("/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isUnauthorized())
+                                .andExpect(jsonPath("$.success").value(false));
         }
 
         @MockBean
@@ -79,10 +110,13 @@ class AuthControllerTest {
         private com.beet.backend.shared.infrastructure.security.JwtAuthenticationFilter jwtAuthenticationFilter;
 
         @MockBean
-        private org.springframework.security.core.userdetails.UserDetailsService userDetailsService;
+        private com.beet.backend.modules.role.domain.api.RoleCatalogServicePort roleCatalogServicePort;
+
+        @MockBean
+        private com.beet.backend.modules.role.domain.spi.RolePersistencePort rolePersistencePort;
 
         @MockBean
-        private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+        private com.beet.backend.modules.subscription.domain.api.EntitlementServicePort entitlementServicePort;
 
         @Autowired
         private ObjectMapper objectMapper;
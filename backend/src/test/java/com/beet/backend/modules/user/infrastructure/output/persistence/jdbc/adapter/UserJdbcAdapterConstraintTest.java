@@ -0,0 +1,92 @@
+package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.adapter;
+
+import com.beet.backend.modules.subscription.domain.exception.SubscriptionPlanNotFoundException;
+import com.beet.backend.modules.user.domain.exception.UserAlreadyExistsException;
+import com.beet.backend.modules.user.domain.model.User;
+import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.mapper.UserAggregateMapper;
+import com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.repository.UserJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserJdbcAdapterConstraintTest {
+
+    @Mock
+    private UserJdbcRepository repository;
+
+    private UserJdbcAdapter adapter;
+
+    private final User user = User.builder()
+            .email("taken@example.com")
+            .passwordHash("hashed")
+            .firstName("John")
+            .firstLastname("Doe")
+            .phoneNumber("1234567890")
+            .username("johndoe")
+            .subscriptionPlanId(UUID.randomUUID())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserJdbcAdapter(repository, new UserAggregateMapper());
+    }
+
+    @Test
+    void shouldTranslateUniqueViolationsByConstraintName() {
+        when(repository.save(any())).thenThrow(
+                new DuplicateKeyException("duplicate", violation("23505", "users_email_key")),
+                new DuplicateKeyException("duplicate", violation("23505", "users_username_key")),
+                new DuplicateKeyException("duplicate", violation("23505", "users_phone_number_key")));
+
+        assertThatThrownBy(() -> adapter.save(user))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Email already in use: taken@example.com");
+        assertThatThrownBy(() -> adapter.save(user))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Username already in use: johndoe");
+        assertThatThrownBy(() -> adapter.save(user))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Phone number already in use: 1234567890");
+    }
+
+    @Test
+    void shouldTranslateUnknownPlanForeignKey() {
+        when(repository.save(any())).thenThrow(
+                new DataIntegrityViolationException("fk", violation("23503", "fk_users_plan")));
+
+        assertThatThrownBy(() -> adapter.save(user))
+                .isInstanceOf(SubscriptionPlanNotFoundException.class)
+                .hasMessageContaining(user.getSubscriptionPlanId().toString());
+    }
+
+    @Test
+    void shouldRethrowUnmappedViolations() {
+        DataIntegrityViolationException unmapped =
+                new DataIntegrityViolationException("fk", violation("23503", "fk_users_owner"));
+        when(repository.save(any())).thenThrow(unmapped);
+
+        assertThatThrownBy(() -> adapter.save(user)).isSameAs(unmapped);
+    }
+
+    /** A driver error as PostgreSQL reports it: severity, SQLState and constraint name. */
+    private static PSQLException violation(String sqlState, String constraint) {
+        PSQLException ex = new PSQLException(
+                new ServerErrorMessage("SERROR\0C" + sqlState + "\0Mviolation\0n" + constraint + "\0"));
+        assertThat(ex.getServerErrorMessage().getConstraint()).isEqualTo(constraint);
+        return ex;
+    }
+}
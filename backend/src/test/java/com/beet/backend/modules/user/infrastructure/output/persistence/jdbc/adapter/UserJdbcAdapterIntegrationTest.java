@@ -0,0 +1,114 @@
+package com.beet.backend.modules.user.infrastructure.output.persistence.jdbc.adapter;
+
+import com.beet.backend.modules.subscription.domain.exception.SubscriptionPlanNotFoundException;
+import com.beet.backend.modules.user.domain.exception.UserAlreadyExistsException;
+import com.beet.backend.modules.user.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the constraint names UserJdbcAdapter translates are the ones the
+ * migrated schema actually reports. Needs Docker; skipped otherwise.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class UserJdbcAdapterIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private UserJdbcAdapter adapter;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    private UUID planId;
+    private User existing;
+
+    @BeforeEach
+    void setUp() {
+        planId = jdbcClient.sql("SELECT id FROM subscription_plans WHERE name = 'Standard'")
+                .query(UUID.class)
+                .single();
+        String key = UUID.randomUUID().toString();
+        existing = adapter.save(user(key + "@beet.test", key, key, planId));
+    }
+
+    @Test
+    void shouldTranslateDuplicateEmail() {
+        String key = UUID.randomUUID().toString();
+        User duplicate = user(existing.getEmail(), key, key, planId);
+
+        assertThatThrownBy(() -> adapter.save(duplicate))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Email already in use: " + existing.getEmail());
+        assertThat(countByEmail(existing.getEmail())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTranslateDuplicateUsername() {
+        String key = UUID.randomUUID().toString();
+        User duplicate = user(key + "@beet.test", existing.getUsername(), key, planId);
+
+        assertThatThrownBy(() -> adapter.save(duplicate))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Username already in use: " + existing.getUsername());
+        assertThat(countByEmail(duplicate.getEmail())).isZero();
+    }
+
+    @Test
+    void shouldTranslateDuplicatePhoneNumber() {
+        String key = UUID.randomUUID().toString();
+        User duplicate = user(key + "@beet.test", key, existing.getPhoneNumber(), planId);
+
+        assertThatThrownBy(() -> adapter.save(duplicate))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Phone number already in use: " + existing.getPhoneNumber());
+        assertThat(countByEmail(duplicate.getEmail())).isZero();
+    }
+
+    @Test
+    void shouldTranslateUnknownPlan() {
+        UUID unknownPlan = UUID.randomUUID();
+        String key = UUID.randomUUID().toString();
+        User withoutPlan = user(key + "@beet.test", key, key, unknownPlan);
+
+        assertThatThrownBy(() -> adapter.save(withoutPlan))
+                .isInstanceOf(SubscriptionPlanNotFoundException.class)
+                .hasMessageContaining(unknownPlan.toString());
+        assertThat(countByEmail(withoutPlan.getEmail())).isZero();
+    }
+
+    private int countByEmail(String email) {
+        return jdbcClient.sql("SELECT COUNT(*) FROM users WHERE email = :email")
+                .param("email", email)
+                .query(Integer.class)
+                .single();
+    }
+
+    private static User user(String email, String username, String phoneNumber, UUID subscriptionPlanId) {
+        return User.builder()
+                .email(email)
+                .passwordHash("hash")
+                .firstName("Jane")
+                .firstLastname("Doe")
+                .phoneNumber(phoneNumber)
+                .username(username)
+                .subscriptionPlanId(subscriptionPlanId)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.beet.backend.shared.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test helper that wraps the application {@link DataSource} and counts the SQL statements
+ * prepared on its connections. Import it into a Spring test, {@link #reset()} before the
+ * code under test and assert on {@link #count()}.
+ */
+public class SqlStatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "createStatement",
+            "prepareCall");
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(method, target, args);
+                return result instanceof Connection connection ? countingConnection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    public void reset() {
+        statements.set(0);
+    }
+
+    public int count() {
+        return statements.get();
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                statements.incrementAndGet();
+            }
+            return invoke(method, target, args);
+        });
+    }
+
+    private static Object invoke(java.lang.reflect.Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, TargetHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface TargetHandler {
+        Object handle(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+    }
+}
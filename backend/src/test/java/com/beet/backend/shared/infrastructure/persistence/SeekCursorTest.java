@@ -0,0 +1,45 @@
+package com.beet.backend.shared.infrastructure.persistence;
+
+import com.beet.backend.shared.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SeekCursorTest {
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        SeekCursor cursor = new SeekCursor("name", true, UUID.randomUUID(), "tomate | chonto");
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("tomate"));
+        assertEquals(cursor, SeekCursor.decode(token));
+    }
+
+    @Test
+    void shouldKeepMissingSortValue() {
+        SeekCursor cursor = new SeekCursor("costPerBaseUnit", false, UUID.randomUUID(), null);
+
+        assertEquals(cursor, SeekCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        assertThrows(InvalidCursorException.class, () -> SeekCursor.decode("not a cursor"));
+        assertThrows(InvalidCursorException.class, () -> SeekCursor.decode("bmFtZR9hH25vdC1hLXV1aWQ"));
+    }
+
+    @Test
+    void shouldRejectCursorFromAnotherSort() {
+        SeekCursor cursor = new SeekCursor("name", false, UUID.randomUUID(), "arroz");
+
+        assertEquals(cursor, cursor.requireSort("name", false));
+        assertThrows(InvalidCursorException.class, () -> cursor.requireSort("name", true));
+        assertThrows(InvalidCursorException.class, () -> cursor.requireSort("unitAbbreviation", false));
+    }
+}
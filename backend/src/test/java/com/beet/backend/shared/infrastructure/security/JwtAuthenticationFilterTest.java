@@ -0,0 +1,154 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.user.domain.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private TokenVersionValidator tokenVersionValidator;
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("owner@beet.com")
+            .passwordHash("hashedPwd")
+            .subscriptionPlanId(UUID.randomUUID())
+            .tokenVersion(3)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970", 60_000L);
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, tokenVersionValidator, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        when(tokenVersionValidator.isCurrent(user.getId(), 3)).thenReturn(true);
+
+        doFilter(jwtService.generateToken(new CustomUserDetails(user)));
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(user.getId(), principal.getId());
+        assertEquals(user.getEmail(), principal.getUsername());
+        assertEquals(user.getSubscriptionPlanId(), principal.getSubscriptionPlanId());
+        assertNull(principal.getOwnerId());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void shouldCarrySignedRestaurantRoles() throws Exception {
+        UUID restaurantId = UUID.randomUUID();
+        UUID roleId = UUID.randomUUID();
+        when(tokenVersionValidator.isCurrent(user.getId(), 3)).thenReturn(true);
+
+        doFilter(jwtService.generateToken(new CustomUserDetails(user, Map.of(restaurantId, roleId))));
+
+        assertEquals(Optional.of(roleId), SecurityUtils.getSignedRoleId(user.getId(), restaurantId));
+        assertEquals(Optional.empty(), SecurityUtils.getSignedRoleId(user.getId(), UUID.randomUUID()));
+        assertEquals(Optional.empty(), SecurityUtils.getSignedRoleId(UUID.randomUUID(), restaurantId));
+    }
+
+    @Test
+    void shouldSignRestaurantRolesUpToTheCapAndOmitThemBeyond() throws Exception {
+        when(tokenVersionValidator.isCurrent(user.getId(), 3)).thenReturn(true);
+        Map<UUID, UUID> atCap = restaurantRoles(CustomUserDetails.MAX_SIGNED_RESTAURANT_ROLES);
+        UUID restaurantId = atCap.keySet().iterator().next();
+
+        String token = jwtService.generateToken(new CustomUserDetails(user, atCap));
+        doFilter(token);
+
+        assertTrue(("Bearer " + token).length() < 8 * 1024, "token must fit Tomcat's header limit");
+        assertEquals(Optional.of(atCap.get(restaurantId)), SecurityUtils.getSignedRoleId(user.getId(), restaurantId));
+
+        Map<UUID, UUID> overCap = new HashMap<>(atCap);
+        overCap.putAll(restaurantRoles(1));
+        SecurityContextHolder.clearContext();
+        doFilter(jwtService.generateToken(new CustomUserDetails(user, overCap)));
+
+        // No signed roles at all, so callers resolve the role from the database
+        assertEquals(Optional.empty(), SecurityUtils.getSignedRoleId(user.getId(), restaurantId));
+        assertNull(((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .getRestaurantRoles());
+    }
+
+    @Test
+    void shouldRejectTokenWithStaleVersion() throws Exception {
+        when(tokenVersionValidator.isCurrent(user.getId(), 3)).thenReturn(false);
+
+        doFilter(jwtService.generateToken(new CustomUserDetails(user)));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void shouldLoadUserForTokensWithoutIdentityClaims() throws Exception {
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(userDetails);
+
+        doFilter(jwtService.generateToken(new java.util.HashMap<>(), userDetails));
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService).loadUserByUsername(user.getEmail());
+    }
+
+    @Test
+    void shouldIgnoreTamperedToken() throws Exception {
+        String token = jwtService.generateToken(new CustomUserDetails(user));
+
+        doFilter(token.substring(0, token.length() - 2) + "xx");
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static Map<UUID, UUID> restaurantRoles(int count) {
+        Map<UUID, UUID> roles = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            roles.put(UUID.randomUUID(), UUID.randomUUID());
+        }
+        return roles;
+    }
+
+    private void doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
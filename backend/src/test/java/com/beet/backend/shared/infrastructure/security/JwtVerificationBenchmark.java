@@ -0,0 +1,75 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.user.domain.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of token verification in the authentication filter.
+ * <p>
+ * {@code legacyPipeline} reproduces the previous flow: extractUsername + isTokenValid
+ * (username + expiration), each decoding the secret and building a new parser.
+ * {@code verifyOnce} is the current {@link JwtService#verify(String)}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.beet.backend.shared.infrastructure.security.JwtVerificationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L);
+        token = jwtService.generateToken(new CustomUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .email("owner@beet.com")
+                .subscriptionPlanId(UUID.randomUUID())
+                .build()));
+    }
+
+    @Benchmark
+    public boolean legacyPipeline() {
+        String username = legacyParse(token).getSubject();
+        return username.equals(legacyParse(token).getSubject())
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public VerifiedClaims verifyOnce() {
+        return jwtService.verify(token).orElseThrow();
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
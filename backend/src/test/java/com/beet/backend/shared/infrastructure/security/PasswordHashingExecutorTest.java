@@ -0,0 +1,109 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.shared.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Blocks every check until the test releases it, so the pool can be saturated on demand
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRejectImmediatelyWhenQueueIsFull() throws Exception {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.matches("pwd", "hash:pwd"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.matches("pwd", "hash:pwd"));
+        awaitQueueDepth(1);
+
+        assertThrows(ServiceOverloadedException.class, () -> executor.matches("pwd", "hash:pwd"));
+        assertEquals(1.0, meterRegistry.get("beet.auth.password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("beet.auth.password.hash.latency").timer().count());
+    }
+
+    @Test
+    void shouldNeverMatchUnknownUser() {
+        release.countDown();
+
+        assertFalse(executor.matches("userNotFoundPassword", null));
+    }
+
+    @Test
+    void shouldEncodeDummyHashOnceAtStartup() {
+        AtomicInteger encodes = new AtomicInteger();
+        PasswordEncoder countingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                encodes.incrementAndGet();
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+
+        PasswordHashingExecutor eager =
+                new PasswordHashingExecutor(countingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        try {
+            assertEquals(1, encodes.get());
+            assertFalse(eager.matches("pwd", null));
+            assertFalse(eager.matches("pwd", null));
+            assertEquals(1, encodes.get());
+        } finally {
+            eager.shutdown();
+        }
+    }
+
+    private void awaitQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("beet.auth.password.hash.queue.depth").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "queue never filled");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionMatrix;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single {@code @RequiresPermission} decision once the role is known.
+ * <p>
+ * {@code mapOfLists} walks the role's stored {@code Map<PermissionModule, List<PermissionAction>>}
+ * and resolves the ALL/MANAGE wildcards on every call; {@code matrix} is the precompiled
+ * {@link PermissionMatrix} served by the role catalog.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.beet.backend.shared.infrastructure.security.PermissionCheckBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    private Map<PermissionModule, List<PermissionAction>> permissions;
+    private PermissionMatrix matrix;
+
+    @Setup
+    public void setUp() {
+        permissions = Map.of(
+                PermissionModule.INVENTORY, List.of(PermissionAction.CREATE, PermissionAction.READ,
+                        PermissionAction.UPDATE, PermissionAction.DELETE),
+                PermissionModule.RECIPES, List.of(PermissionAction.READ, PermissionAction.EDIT),
+                PermissionModule.ORDERS, List.of(PermissionAction.VIEW, PermissionAction.UPDATE_STATUS,
+                        PermissionAction.VOID),
+                PermissionModule.CASH, List.of(PermissionAction.MANAGE));
+        matrix = PermissionMatrix.of(permissions);
+    }
+
+    @Benchmark
+    public boolean mapOfLists() {
+        return mapOfListsAllows(PermissionModule.ORDERS, PermissionAction.VOID)
+                & mapOfListsAllows(PermissionModule.KDS, PermissionAction.READ);
+    }
+
+    @Benchmark
+    public boolean matrix() {
+        return matrix.allows(PermissionModule.ORDERS, PermissionAction.VOID)
+                & matrix.allows(PermissionModule.KDS, PermissionAction.READ);
+    }
+
+    private boolean mapOfListsAllows(PermissionModule module, PermissionAction action) {
+        return grants(permissions.get(PermissionModule.ALL), action)
+                || grants(permissions.get(module), action);
+    }
+
+    private static boolean grants(List<PermissionAction> actions, PermissionAction action) {
+        return actions != null && (actions.contains(action)
+                || actions.contains(PermissionAction.ALL)
+                || actions.contains(PermissionAction.MANAGE));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PermissionCheckBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,104 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.subscription.domain.api.EntitlementServicePort;
+import com.beet.backend.modules.subscription.domain.exception.FeatureNotAvailableException;
+import com.beet.backend.modules.subscription.domain.model.PlanFeature;
+import com.beet.backend.modules.user.domain.model.User;
+import com.beet.backend.shared.domain.annotation.RequiresFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequiresFeatureInterceptorTest {
+
+    @Mock
+    private EntitlementServicePort entitlementServicePort;
+
+    @InjectMocks
+    private RequiresFeatureInterceptor interceptor;
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails principal = new CustomUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .email("employee@beet.com")
+                .ownerId(ownerId)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAllowWhenOwnerPlanHasFeature() throws Exception {
+        when(entitlementServicePort.isEnabled(ownerId, PlanFeature.ADVANCED_REPORTING)).thenReturn(true);
+
+        assertTrue(preHandle(new ReportController(), "report"));
+    }
+
+    @Test
+    void shouldDenyWhenOwnerPlanLacksFeature() {
+        when(entitlementServicePort.isEnabled(ownerId, PlanFeature.ADVANCED_REPORTING)).thenReturn(false);
+
+        assertThrows(FeatureNotAvailableException.class, () -> preHandle(new ReportController(), "report"));
+    }
+
+    @Test
+    void shouldApplyClassLevelRequirement() {
+        when(entitlementServicePort.isEnabled(ownerId, PlanFeature.PRIORITY_SUPPORT)).thenReturn(false);
+
+        assertThrows(FeatureNotAvailableException.class, () -> preHandle(new SupportController(), "open"));
+    }
+
+    @Test
+    void shouldSkipHandlersWithoutRequirement() throws Exception {
+        assertTrue(preHandle(new ReportController(), "list"));
+
+        verifyNoInteractions(entitlementServicePort);
+    }
+
+    private boolean preHandle(Object controller, String method) throws Exception {
+        HandlerMethod handler = new HandlerMethod(controller, controller.getClass().getMethod(method));
+        return interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler);
+    }
+
+    static class ReportController {
+
+        @RequiresFeature(PlanFeature.ADVANCED_REPORTING)
+        public void report() {
+        }
+
+        public void list() {
+        }
+    }
+
+    @RequiresFeature(PlanFeature.PRIORITY_SUPPORT)
+    static class SupportController {
+
+        public void open() {
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.beet.backend.shared.infrastructure.security;
+
+import com.beet.backend.modules.role.domain.api.RoleCatalogServicePort;
+import com.beet.backend.modules.role.domain.exception.PermissionDeniedException;
+import com.beet.backend.modules.role.domain.model.PermissionAction;
+import com.beet.backend.modules.role.domain.model.PermissionMatrix;
+import com.beet.backend.modules.role.domain.model.PermissionModule;
+import com.beet.backend.modules.role.domain.model.RoleDomain;
+import com.beet.backend.modules.role.domain.spi.RolePersistencePort;
+import com.beet.backend.modules.user.domain.model.User;
+import com.beet.backend.shared.domain.annotation.RequiresPermission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequiresPermissionInterceptorTest {
+
+    @Mock
+    private RoleCatalogServicePort roleCatalogServicePort;
+    @Mock
+    private RolePersistencePort rolePersistencePort;
+
+    @InjectMocks
+    private RequiresPermissionInterceptor interceptor;
+
+    private final User user = User.builder().id(UUID.randomUUID()).email("manager@beet.com").build();
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID roleId = UUID.randomUUID();
+    private final PermissionMatrix editor = PermissionMatrix.of(
+            Map.of(PermissionModule.RESTAURANTS, List.of(PermissionAction.READ, PermissionAction.UPDATE)));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldResolveRestaurantFromPathVariableAndUseSignedRole() throws Exception {
+        authenticate(Map.of(restaurantId, roleId));
+        when(roleCatalogServicePort.getPermissionMatrix(roleId)).thenReturn(editor);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", restaurantId.toString()));
+
+        assertTrue(preHandle(request, "updateById"));
+
+        verifyNoInteractions(rolePersistencePort);
+    }
+
+    @Test
+    void shouldResolveRestaurantFromRequestParamAndLookUpRole() throws Exception {
+        authenticate(null);
+        stubStoredRole();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("restaurantId", restaurantId.toString());
+
+        assertTrue(preHandle(request, "read"));
+    }
+
+    @Test
+    void shouldResolveRestaurantFromHeader() throws Exception {
+        authenticate(null);
+        stubStoredRole();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequiresPermissionInterceptor.RESTAURANT_ID_HEADER, restaurantId.toString());
+
+        assertTrue(preHandle(request, "read"));
+    }
+
+    @Test
+    void shouldDenyWhenRequestHasNoRestaurant() {
+        authenticate(null);
+
+        assertThrows(PermissionDeniedException.class, () -> preHandle(new MockHttpServletRequest(), "read"));
+        verifyNoInteractions(rolePersistencePort, roleCatalogServicePort);
+    }
+
+    @Test
+    void shouldDenyWhenRestaurantIdIsMalformed() {
+        authenticate(null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("restaurantId", "not-a-uuid");
+
+        assertThrows(PermissionDeniedException.class, () -> preHandle(request, "read"));
+    }
+
+    @Test
+    void shouldDenyWhenRoleLacksPermission() {
+        authenticate(Map.of(restaurantId, roleId));
+        when(roleCatalogServicePort.getPermissionMatrix(roleId)).thenReturn(editor);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("restaurantId", restaurantId.toString());
+
+        assertThrows(PermissionDeniedException.class, () -> preHandle(request, "delete"));
+    }
+
+    @Test
+    void shouldDenyWhenUserHasNoRoleInRestaurant() {
+        authenticate(null);
+        when(rolePersistencePort.findRoleByUserIdAndRestaurantId(user.getId(), restaurantId))
+                .thenReturn(Optional.empty());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("restaurantId", restaurantId.toString());
+
+        assertThrows(PermissionDeniedException.class, () -> preHandle(request, "read"));
+        verifyNoInteractions(roleCatalogServicePort);
+    }
+
+    @Test
+    void shouldSkipHandlersWithoutRequirement() throws Exception {
+        assertTrue(preHandle(new MockHttpServletRequest(), "open"));
+
+        verifyNoInteractions(rolePersistencePort, roleCatalogServicePort);
+    }
+
+    private void authenticate(Map<UUID, UUID> restaurantRoles) {
+        CustomUserDetails principal = new CustomUserDetails(user, restaurantRoles);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private void stubStoredRole() {
+        when(rolePersistencePort.findRoleByUserIdAndRestaurantId(user.getId(), restaurantId))
+                .thenReturn(Optional.of(RoleDomain.builder().id(roleId).name("Manager").build()));
+        when(roleCatalogServicePort.getPermissionMatrix(roleId)).thenReturn(editor);
+    }
+
+    private boolean preHandle(MockHttpServletRequest request, String method) throws Exception {
+        HandlerMethod handler = new HandlerMethod(new RestaurantController(),
+                RestaurantController.class.getMethod(method));
+        return interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+    }
+
+    static class RestaurantController {
+
+        @RequiresPermission(module = PermissionModule.RESTAURANTS, action = PermissionAction.UPDATE,
+                restaurantIdParam = "id")
+        public void updateById() {
+        }
+
+        @RequiresPermission(module = PermissionModule.RESTAURANTS, action = PermissionAction.READ)
+        public void read() {
+        }
+
+        @RequiresPermission(module = PermissionModule.RESTAURANTS, action = PermissionAction.DELETE)
+        public void delete() {
+        }
+
+        public void open() {
+        }
+    }
+}
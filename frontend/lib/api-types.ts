@@ -20,8 +20,8 @@ export interface PageResponse<T> {
         unpaged: boolean;
     };
     last: boolean;
-    totalElements: number;
-    totalPages: number;
+    totalElements: number; // -1 when the list was requested with withTotal=false
+    totalPages: number; // -1 when the list was requested with withTotal=false
     first: boolean;
     size: number;
     number: number;
@@ -34,6 +34,14 @@ export interface PageResponse<T> {
     empty: boolean;
 }
 
+export interface CursorPageResponse<T> {
+    content: T[];
+    size: number;
+    numberOfElements: number;
+    nextCursor: string | null; // pass back as ?cursor= for the next page
+    last: boolean;
+}
+
 export interface SubscriptionPlanFeatures {
     max_restaurants: number;
     max_employees: number;
@@ -87,6 +95,12 @@ export interface LoginRequest {
 export interface LoginResponse {
     token: string;
     user: UserResponse;
+    refreshToken: string;
+}
+
+export interface RefreshTokenResponse {
+    token: string;
+    refreshToken: string;
 }
 
 // Permissions Types
@@ -126,6 +140,8 @@ export type RestaurantResponse = {
     ownerId: string;
     settings: RestaurantSettings;
     role: string; // "Owner", "Manager", etc.
+    roleId?: string; // UUID
+    version?: number; // Send back on update to reject stale edits with 409
 }
 
 // ── Mock Ingredient types (used by list, detail, delete, adjust — still mocked) ──
@@ -155,6 +171,21 @@ export interface UnitResponse {
     isBase: boolean;
 }
 
+// POST /units/convert — up to 10000 conversions, answered in request order
+export interface UnitConversion {
+    fromUnitId: string;
+    toUnitId: string;
+    quantity: number;
+}
+
+export interface UnitConversionRequest {
+    conversions: UnitConversion[];
+}
+
+export interface UnitConversionResponse {
+    quantities: number[];
+}
+
 // ── Ingredient Creation (real, matches backend DTOs) ──
 
 export interface DocumentTypeResponse {
@@ -163,6 +194,13 @@ export interface DocumentTypeResponse {
     description: string | null;
 }
 
+// GET /reference-data — public, served with a strong ETag; repeat loads with If-None-Match get a 304
+export interface ReferenceDataResponse {
+    units: UnitResponse[];
+    documentTypesByCountry: Record<string, DocumentTypeResponse[]>; // keyed by ISO country code
+    subscriptionPlans: SubscriptionPlan[];
+}
+
 export interface MasterIngredientPayload {
     name: string;
     baseUnitId: string;
@@ -206,6 +244,20 @@ export interface IngredientResponse {
     supplierItem: SupplierItemInfo;
 }
 
+// ── Ingredient Bulk Import (POST /ingredients/import, text/csv or application/x-ndjson) ──
+
+export interface IngredientImportRowError {
+    row: number; // line number in the uploaded file
+    message: string;
+}
+
+export interface IngredientImportResponse {
+    imported: number;
+    failed: number;
+    errors: IngredientImportRowError[];
+    errorsTruncated: boolean; // true when failed > errors.length
+}
+
 // ── Ingredient Read Endpoints (Real) ──
 
 export interface IngredientListResponse {